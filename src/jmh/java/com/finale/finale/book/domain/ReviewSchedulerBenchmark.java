@@ -0,0 +1,70 @@
+package com.finale.finale.book.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReviewSchedulerBenchmark {
+
+    private static final int ITEMS = 2_000_000;
+
+    private final ReviewScheduler fixed = FixedIntervalReviewScheduler.INSTANCE;
+    private final ReviewScheduler fsrs = new FsrsReviewScheduler(0.9, 36500);
+    private final LocalDate today = LocalDate.of(2025, 3, 1);
+
+    private Item[] items;
+    private ReviewGrade[] grades;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        items = new Item[ITEMS];
+        grades = new ReviewGrade[ITEMS];
+        ReviewGrade[] values = ReviewGrade.values();
+
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = new Item();
+            for (int r = 0; r < i % 6; r++) {
+                fsrs.schedule(item, ReviewGrade.GOOD, today.minusDays(60 - r * 10L));
+            }
+            items[i] = item;
+            grades[i] = values[i % values.length];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fixedInterval() {
+        for (int i = 0; i < ITEMS; i++) {
+            fixed.schedule(items[i], grades[i], today);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fsrs() {
+        for (int i = 0; i < ITEMS; i++) {
+            fsrs.schedule(items[i], grades[i], today);
+        }
+    }
+
+    static final class Item extends ReviewableItem {
+    }
+}
@@ -2,7 +2,7 @@ package com.finale.finale.auth.controller;
 
 import com.finale.finale.auth.dto.request.*;
 import com.finale.finale.auth.dto.response.*;
-import com.finale.finale.book.service.StoryGenerationService;
+import com.finale.finale.book.service.StoryGenerationDispatcher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,7 +20,7 @@ import javax.validation.Valid;
 public class AuthController {
 
     private final AuthService authService;
-    private final StoryGenerationService storyGenerationService;
+    private final StoryGenerationDispatcher storyGenerationDispatcher;
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
@@ -81,7 +81,7 @@ public class AuthController {
             @RequestBody AbilityRequest request
     ) {
         UserResponse response = authService.setAbility(userId, request);
-        storyGenerationService.generate(userId);
+        storyGenerationDispatcher.dispatch(userId);
         return ResponseEntity.ok(response);
     }
 }
@@ -67,6 +67,9 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "withdrawn_at")
+    private LocalDateTime withdrawnAt;
+
     public User(String email) {
         this.email = email;
         this.imageCategory = UserImageCategory.getRandomCategory();
@@ -145,6 +148,12 @@ public class User {
         }
     }
 
+    public void withdraw() {
+        this.email = "withdrawn:" + id + ":" + email;
+        this.nickname = null;
+        this.withdrawnAt = LocalDateTime.now();
+    }
+
     @PreUpdate
     private void onUpdate() {
         this.updatedAt = LocalDateTime.now();
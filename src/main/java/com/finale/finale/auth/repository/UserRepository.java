@@ -1,12 +1,28 @@
 package com.finale.finale.auth.repository;
 
 import com.finale.finale.auth.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    @Query("SELECT u.id FROM User u " +
+            "WHERE u.lastLearnDate >= :activeSince " +
+            "AND u.withdrawnAt IS NULL " +
+            "AND (SELECT COUNT(b) FROM Book b WHERE b.user = u AND b.isProvision = false) < :lowWatermark " +
+            "ORDER BY u.lastLearnDate DESC, u.continuosLearning DESC, u.id ASC")
+    List<Long> findPoolRefillCandidateIds(
+            @Param("activeSince") LocalDate activeSince,
+            @Param("lowWatermark") long lowWatermark,
+            Pageable pageable
+    );
 }
@@ -9,13 +9,17 @@ import com.finale.finale.auth.dto.response.LoginResponse;
 import com.finale.finale.auth.dto.response.NicknameCheckResponse;
 import com.finale.finale.auth.dto.response.RefreshResponse;
 import com.finale.finale.auth.dto.response.UserResponse;
-import com.finale.finale.book.repository.*;
+import com.finale.finale.book.repository.BookRepository;
+import com.finale.finale.book.service.BookPurgeService;
 import com.finale.finale.book.service.DefaultBookInjectionService;
 import com.finale.finale.exception.CustomException;
 import com.finale.finale.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.finale.finale.config.JwtTokenProvider;
 import com.finale.finale.auth.domain.OAuthProvider;
@@ -40,17 +44,15 @@ public class AuthService {
     private final OAuthProviderRepository oauthProviderRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final BookRepository bookRepository;
-    private final SentenceRepository sentenceRepository;
-    private final QuizRepository quizRepository;
-    private final UnknownWordRepository unknownWordRepository;
-    private final UnknownPhraseRepository unknownPhraseRepository;
-    private final PhraseRepository phraseRepository;
-    private final WordRepository wordRepository;
+    private final BookPurgeService bookPurgeService;
     private final DefaultBookInjectionService defaultBookInjectionService;
 
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    @Value("${book.purge.async-threshold:200}")
+    private long asyncWithdrawThreshold;
+
     public LoginResponse login(LoginRequest request) {
         String token = request.idToken() != null ? request.idToken() : request.authCode();
 
@@ -127,31 +129,23 @@ public class AuthService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        var books = bookRepository.findAllByUser(user);
-
-        for (var book : books) {
-            book.getReviewWords().clear();
-
-            var sentences = sentenceRepository.findAllByBook(book);
-
-            for (var sentence : sentences) {
-                phraseRepository.deleteAllBySentence(sentence);
-                wordRepository.deleteAllBySentence(sentence);
-            }
-
-            quizRepository.deleteAll(quizRepository.findAllByBook(book));
-            sentenceRepository.deleteAll(sentences);
-        }
-
-        unknownWordRepository.deleteAllByUserId(userId);
-        unknownPhraseRepository.deleteAllByUserId(userId);
-        bookRepository.deleteAll(books);
-
         oauthProviderRepository.findByUser(user)
             .ifPresent(oauthProviderRepository::delete);
 
         refreshTokenRepository.deleteByUser(user);
 
+        if (bookRepository.countByUser_Id(userId) > asyncWithdrawThreshold) {
+            user.withdraw();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bookPurgeService.purgeUserAsync(userId);
+                }
+            });
+            return;
+        }
+
+        bookPurgeService.purge(bookRepository.findIdsByUserId(userId, Pageable.unpaged()));
         userRepository.delete(user);
     }
 
@@ -5,7 +5,7 @@ import com.finale.finale.book.dto.request.CompleteRequest;
 import com.finale.finale.book.dto.response.*;
 import com.finale.finale.book.service.BookService;
 import com.finale.finale.book.service.LearningService;
-import com.finale.finale.book.service.StoryGenerationService;
+import com.finale.finale.book.service.StoryGenerationDispatcher;
 import com.finale.finale.exception.CustomException;
 import com.finale.finale.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +21,7 @@ import javax.validation.constraints.Min;
 @RequiredArgsConstructor
 public class BookController {
 
-    private final StoryGenerationService storyGenerationService;
+    private final StoryGenerationDispatcher storyGenerationDispatcher;
     private final BookService bookService;
     private final LearningService learningService;
 
@@ -33,7 +33,7 @@ public class BookController {
             @RequestBody CompleteRequest request
     ) {
         CompleteResponse response = learningService.complete(userId, bookId, request);
-        storyGenerationService.generate(userId);
+        storyGenerationDispatcher.dispatch(userId);
         return ResponseEntity.ok(response);
     }
 
@@ -43,7 +43,7 @@ public class BookController {
             StoryGenerationResponse response = bookService.getNewStory(userId);
             return ResponseEntity.ok(response);
         } catch (CustomException e) {
-            storyGenerationService.generate(userId);
+            storyGenerationDispatcher.dispatch(userId);
             throw e;
         }
     }
@@ -75,6 +75,25 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/completed/scroll")
+    public ResponseEntity<CompletedBooksScrollResponse> getCompletedBooksScroll(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Boolean bookmarked,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        validateSortParameter(sort);
+        validateCategoryParameter(category);
+
+        CompletedBooksScrollResponse response = bookService.getCompletedBooksScroll(
+                userId, cursor, size, sort, category, bookmarked, includeTotal
+        );
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/completed/{bookId}")
     public ResponseEntity<CompletedBookDetailResponse> getCompletedBookDetail(
             @AuthenticationPrincipal Long userId,
@@ -13,7 +13,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "books")
+@Table(
+        name = "books",
+        indexes = {
+                @Index(name = "idx_books_user_provision", columnList = "user_id, is_provision, created_at"),
+                @Index(name = "idx_books_user_completed_created", columnList = "user_id, is_completed, created_at"),
+                @Index(name = "idx_books_user_completed_at", columnList = "user_id, is_completed, completed_at, id")
+        }
+)
 @Getter
 @NoArgsConstructor
 public class Book {
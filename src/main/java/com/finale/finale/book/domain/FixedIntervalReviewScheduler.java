@@ -0,0 +1,27 @@
+package com.finale.finale.book.domain;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class FixedIntervalReviewScheduler implements ReviewScheduler {
+
+    public static final FixedIntervalReviewScheduler INSTANCE = new FixedIntervalReviewScheduler();
+
+    private static final int[] INTERVALS = {1, 3, 7, 14, 30, 75, 188, 469, 1173, 2933};
+
+    @Override
+    public void schedule(ReviewableItem item, ReviewGrade grade, LocalDate today) {
+        if (grade == ReviewGrade.AGAIN) {
+            item.applyLapse(today);
+            return;
+        }
+        item.applyInterval(today, intervalDays(item.getReviewCount()));
+    }
+
+    public int intervalDays(int reviewCount) {
+        int base = INTERVALS[Math.min(reviewCount, INTERVALS.length - 1)];
+        int range = (int) Math.round(base * 0.1);
+        int offset = range > 0 ? ThreadLocalRandom.current().nextInt(-range, range + 1) : 0;
+        return Math.max(base + offset, 0);
+    }
+}
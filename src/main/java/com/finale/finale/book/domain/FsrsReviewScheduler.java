@@ -0,0 +1,107 @@
+package com.finale.finale.book.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class FsrsReviewScheduler implements ReviewScheduler {
+
+    private static final double[] W = {
+            0.40, 0.60, 2.40, 5.80, 4.93, 0.94, 0.86, 0.01, 1.49,
+            0.14, 0.94, 2.18, 0.05, 0.34, 1.26, 0.29, 2.61
+    };
+    private static final double DECAY = -0.5;
+    private static final double FACTOR = 19.0 / 81.0;
+    private static final double MIN_DIFFICULTY = 1.0;
+    private static final double MAX_DIFFICULTY = 10.0;
+    private static final double FUZZ_RATE = 0.05;
+
+    private final double requestRetention;
+    private final int maximumInterval;
+
+    public FsrsReviewScheduler(double requestRetention, int maximumInterval) {
+        this.requestRetention = requestRetention;
+        this.maximumInterval = maximumInterval;
+    }
+
+    @Override
+    public void schedule(ReviewableItem item, ReviewGrade grade, LocalDate today) {
+        int g = grade.getValue();
+        Double storedStability = item.getStability();
+        Double storedDifficulty = item.getDifficulty();
+        LocalDate lastReviewDate = item.getLastReviewDate();
+
+        double stability;
+        double difficulty;
+        if (storedStability == null || storedDifficulty == null || lastReviewDate == null) {
+            stability = initialStability(g);
+            difficulty = initialDifficulty(g);
+        } else {
+            double s = storedStability;
+            double d = storedDifficulty;
+            long elapsedDays = Math.max(ChronoUnit.DAYS.between(lastReviewDate, today), 0);
+            double r = retrievability(elapsedDays, s);
+
+            stability = g == ReviewGrade.AGAIN.getValue()
+                    ? stabilityAfterLapse(d, s, r)
+                    : stabilityAfterRecall(d, s, r, g);
+            difficulty = nextDifficulty(d, g);
+        }
+
+        item.applyMemoryState(today, fuzz(intervalDays(stability)), stability, difficulty);
+    }
+
+    public double retrievability(long elapsedDays, double stability) {
+        return Math.pow(1 + FACTOR * elapsedDays / stability, DECAY);
+    }
+
+    public double initialStability(int grade) {
+        return Math.max(W[grade - 1], 0.1);
+    }
+
+    public double initialDifficulty(int grade) {
+        return clampDifficulty(W[4] - (grade - 3) * W[5]);
+    }
+
+    public double nextDifficulty(double difficulty, int grade) {
+        double next = difficulty - W[6] * (grade - 3);
+        return clampDifficulty(W[7] * initialDifficulty(3) + (1 - W[7]) * next);
+    }
+
+    public double stabilityAfterRecall(double difficulty, double stability, double retrievability, int grade) {
+        double hardPenalty = grade == ReviewGrade.HARD.getValue() ? W[15] : 1;
+        double easyBonus = grade == ReviewGrade.EASY.getValue() ? W[16] : 1;
+        return stability * (1 + Math.exp(W[8])
+                * (11 - difficulty)
+                * Math.pow(stability, -W[9])
+                * (Math.exp((1 - retrievability) * W[10]) - 1)
+                * hardPenalty
+                * easyBonus);
+    }
+
+    public double stabilityAfterLapse(double difficulty, double stability, double retrievability) {
+        double next = W[11]
+                * Math.pow(difficulty, -W[12])
+                * (Math.pow(stability + 1, W[13]) - 1)
+                * Math.exp((1 - retrievability) * W[14]);
+        return Math.min(next, stability);
+    }
+
+    public int intervalDays(double stability) {
+        double interval = stability / FACTOR * (Math.pow(requestRetention, 1 / DECAY) - 1);
+        return (int) Math.min(Math.max(Math.round(interval), 1), maximumInterval);
+    }
+
+    private int fuzz(int interval) {
+        if (interval < 3) {
+            return interval;
+        }
+        int range = Math.max((int) Math.round(interval * FUZZ_RATE), 1);
+        int fuzzed = interval + ThreadLocalRandom.current().nextInt(-range, range + 1);
+        return Math.min(Math.max(fuzzed, 1), maximumInterval);
+    }
+
+    private static double clampDifficulty(double difficulty) {
+        return Math.min(Math.max(difficulty, MIN_DIFFICULTY), MAX_DIFFICULTY);
+    }
+}
@@ -0,0 +1,15 @@
+package com.finale.finale.book.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReviewGrade {
+    AGAIN(1),
+    HARD(2),
+    GOOD(3),
+    EASY(4);
+
+    private final int value;
+}
@@ -0,0 +1,8 @@
+package com.finale.finale.book.domain;
+
+import java.time.LocalDate;
+
+public interface ReviewScheduler {
+
+    void schedule(ReviewableItem item, ReviewGrade grade, LocalDate today);
+}
@@ -5,33 +5,54 @@ import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
 
 import java.time.LocalDate;
-import java.util.Random;
 
 @MappedSuperclass
 @Getter
 public abstract class ReviewableItem {
 
     @Column(name = "review_count", nullable = false)
-    private Integer reviewCount = 0;
+    private int reviewCount = 0;
 
     @Column(name = "next_review_date", nullable = false)
     private LocalDate nextReviewDate;
 
+    @Column(name = "last_review_date")
+    private LocalDate lastReviewDate;
+
+    @Column(name = "stability")
+    private Double stability;
+
+    @Column(name = "difficulty")
+    private Double difficulty;
+
     protected void setNextReviewDate(LocalDate nextReviewDate) {
         this.nextReviewDate = nextReviewDate;
     }
 
     public void nextReviewSetting() {
-        int[] intervals = {1, 3, 7, 14, 30, 75, 188, 469, 1173, 2933};
-        Random random = new Random();
+        nextReviewSetting(FixedIntervalReviewScheduler.INSTANCE, ReviewGrade.GOOD, LocalDate.now());
+    }
 
-        int index = Math.min(reviewCount, intervals.length - 1);
-        int base = intervals[index];
-        int range = (int) Math.round(base * 0.1);
-        int offset = range > 0 ? random.nextInt(2 * range + 1) - range : 0;
+    public void nextReviewSetting(ReviewScheduler scheduler, ReviewGrade grade, LocalDate today) {
+        scheduler.schedule(this, grade, today);
+    }
 
-        this.nextReviewDate = LocalDate.now().plusDays(Math.max(base + offset, 0));
+    void applyInterval(LocalDate today, int intervalDays) {
+        this.lastReviewDate = today;
+        this.nextReviewDate = today.plusDays(intervalDays);
         this.reviewCount = reviewCount + 1;
     }
 
+    void applyLapse(LocalDate today) {
+        this.lastReviewDate = today;
+        this.nextReviewDate = today;
+        this.reviewCount = 0;
+    }
+
+    void applyMemoryState(LocalDate today, int intervalDays, double stability, double difficulty) {
+        applyInterval(today, intervalDays);
+        this.stability = stability;
+        this.difficulty = difficulty;
+    }
+
 }
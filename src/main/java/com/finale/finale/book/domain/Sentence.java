@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "sentences")
@@ -33,6 +34,10 @@ public class Sentence {
     @Column(name = "korean_text", nullable = false)
     private String koreanText;
 
+    @Convert(converter = SentenceAnnotationsConverter.class)
+    @Column(name = "annotations", columnDefinition = "TEXT")
+    private SentenceAnnotations annotations = SentenceAnnotations.empty();
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -48,4 +53,8 @@ public class Sentence {
     public void updateBook(Book book) {
         this.book = book;
     }
+
+    public void annotate(List<Word> words, List<Phrase> phrases) {
+        this.annotations = new SentenceAnnotations(List.copyOf(words), List.copyOf(phrases));
+    }
 }
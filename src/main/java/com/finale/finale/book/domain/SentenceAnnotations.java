@@ -0,0 +1,12 @@
+package com.finale.finale.book.domain;
+
+import java.util.List;
+
+public record SentenceAnnotations(
+        List<Word> words,
+        List<Phrase> phrases
+) {
+    public static SentenceAnnotations empty() {
+        return new SentenceAnnotations(List.of(), List.of());
+    }
+}
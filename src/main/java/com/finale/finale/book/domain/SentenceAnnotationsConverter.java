@@ -0,0 +1,79 @@
+package com.finale.finale.book.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+@Converter
+public class SentenceAnnotationsConverter implements AttributeConverter<SentenceAnnotations, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+    @Override
+    public String convertToDatabaseColumn(SentenceAnnotations annotations) {
+        if (annotations == null || (annotations.words().isEmpty() && annotations.phrases().isEmpty())) {
+            return null;
+        }
+
+        Stored stored = new Stored(
+                annotations.words().stream()
+                        .map(word -> new StoredWord(word.getWord(), word.getMeaning(), word.getLocation()))
+                        .toList(),
+                annotations.phrases().stream()
+                        .map(phrase -> new StoredPhrase(
+                                phrase.getMeaning(),
+                                phrase.getExpression().stream()
+                                        .map(phraseWord -> new StoredWord(phraseWord.getWord(), null, phraseWord.getLocation()))
+                                        .toList()
+                        ))
+                        .toList()
+        );
+
+        try {
+            return OBJECT_MAPPER.writeValueAsString(stored);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize sentence annotations", e);
+        }
+    }
+
+    @Override
+    public SentenceAnnotations convertToEntityAttribute(String column) {
+        if (column == null || column.isBlank()) {
+            return SentenceAnnotations.empty();
+        }
+
+        Stored stored;
+        try {
+            stored = OBJECT_MAPPER.readValue(column, Stored.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize sentence annotations", e);
+        }
+
+        List<Word> words = stored.w() == null ? List.of() : stored.w().stream()
+                .map(word -> new Word(null, word.w(), word.m(), word.l()))
+                .toList();
+
+        List<Phrase> phrases = stored.p() == null ? List.of() : stored.p().stream()
+                .map(storedPhrase -> {
+                    Phrase phrase = new Phrase(null, storedPhrase.m());
+                    if (storedPhrase.e() != null) {
+                        storedPhrase.e().forEach(word -> phrase.addPhraseWord(new PhraseWord(phrase, word.w(), word.l())));
+                    }
+                    return phrase;
+                })
+                .toList();
+
+        return new SentenceAnnotations(words, phrases);
+    }
+
+    private record Stored(List<StoredWord> w, List<StoredPhrase> p) {}
+
+    private record StoredWord(String w, String m, int l) {}
+
+    private record StoredPhrase(String m, List<StoredWord> e) {}
+}
@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "unknown_phrases")
+@Table(
+        name = "unknown_phrases",
+        indexes = @Index(name = "idx_unknown_phrases_user_review", columnList = "user_id, next_review_date")
+)
 @Getter
 @NoArgsConstructor
 public class UnknownPhrase extends ReviewableItem {
@@ -8,13 +8,23 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Entity
-@Table(name = "unknown_words")
+@Table(
+        name = "unknown_words",
+        indexes = @Index(name = "idx_unknown_words_user_review", columnList = "user_id, next_review_date"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_unknown_words_user_lemma", columnNames = {"user_id", "lemma"})
+)
 @Getter
 @NoArgsConstructor
 public class UnknownWord extends ReviewableItem {
 
+    private static final Pattern EDGE_PUNCTUATION = Pattern.compile("^[^\\p{L}\\p{N}]+|[^\\p{L}\\p{N}]+$");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -30,6 +40,9 @@ public class UnknownWord extends ReviewableItem {
     @Column(nullable = false)
     private String word;
 
+    @Column(nullable = false)
+    private String lemma;
+
     @Column(name = "word_meaning", nullable = false)
     private String wordMeaning;
 
@@ -48,6 +61,10 @@ public class UnknownWord extends ReviewableItem {
     @Column(nullable = false)
     private Integer length;
 
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "unknown_word_occurrences", joinColumns = @JoinColumn(name = "unknown_word_id"))
+    private List<WordOccurrence> occurrences = new ArrayList<>();
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -56,6 +73,7 @@ public class UnknownWord extends ReviewableItem {
         this.user = user;
         this.book = book;
         this.word = word;
+        this.lemma = lemmaOf(word);
         this.wordMeaning = wordMeaning;
         this.sentence = sentence;
         this.sentenceMeaning = sentenceMeaning;
@@ -64,4 +82,26 @@ public class UnknownWord extends ReviewableItem {
         this.length = length;
         setNextReviewDate(nextReviewDate);
     }
+
+    public static String lemmaOf(String word) {
+        String lemma = EDGE_PUNCTUATION.matcher(word.toLowerCase(Locale.ROOT)).replaceAll("");
+        if (lemma.endsWith("'s") || lemma.endsWith("’s")) {
+            lemma = lemma.substring(0, lemma.length() - 2);
+        }
+        return lemma;
+    }
+
+    public WordOccurrence toOccurrence() {
+        return new WordOccurrence(book.getId(), sentenceId, sentence, sentenceMeaning, location, length);
+    }
+
+    public void relearn(Book book, String wordMeaning, String sentence, String sentenceMeaning, Long sentenceId, int location, int length) {
+        this.book = book;
+        this.wordMeaning = wordMeaning;
+        this.sentence = sentence;
+        this.sentenceMeaning = sentenceMeaning;
+        this.sentenceId = sentenceId;
+        this.location = location;
+        this.length = length;
+    }
 }
@@ -0,0 +1,33 @@
+package com.finale.finale.book.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class WordOccurrence {
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "sentence_id", nullable = false)
+    private Long sentenceId;
+
+    @Column(nullable = false)
+    private String sentence;
+
+    @Column(name = "sentence_meaning", nullable = false)
+    private String sentenceMeaning;
+
+    @Column(nullable = false)
+    private Integer location;
+
+    @Column(nullable = false)
+    private Integer length;
+}
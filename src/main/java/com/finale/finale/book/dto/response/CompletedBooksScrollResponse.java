@@ -0,0 +1,11 @@
+package com.finale.finale.book.dto.response;
+
+import java.util.List;
+
+public record CompletedBooksScrollResponse(
+        List<CompletedBooksResponse.CompletedBook> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+}
@@ -0,0 +1,92 @@
+package com.finale.finale.book.repository;
+
+import com.finale.finale.book.domain.Quiz;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.book.domain.SentenceAnnotationsConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BookContentJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final SentenceAnnotationsConverter ANNOTATIONS_CONVERTER = new SentenceAnnotationsConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertSentences(Long bookId, List<Sentence> sentences) {
+        insertSentenceRows(bookId, sentences.stream().map(SentenceRow::of).toList());
+    }
+
+    public void insertSentenceRows(Long bookId, List<SentenceRow> sentences) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO sentences (book_id, paragraph_number, sentence_order, english_text, korean_text, annotations, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                sentences,
+                BATCH_SIZE,
+                (ps, sentence) -> {
+                    ps.setLong(1, bookId);
+                    ps.setInt(2, sentence.paragraphNumber());
+                    ps.setInt(3, sentence.sentenceOrder());
+                    ps.setString(4, sentence.englishText());
+                    ps.setString(5, sentence.koreanText());
+                    ps.setString(6, sentence.annotations());
+                    ps.setTimestamp(7, now);
+                }
+        );
+    }
+
+    public void insertQuizzes(Long bookId, List<Quiz> quizzes) {
+        insertQuizRows(bookId, quizzes.stream().map(QuizRow::of).toList());
+    }
+
+    public void insertQuizRows(Long bookId, List<QuizRow> quizzes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO quizzes (book_id, question, correct_answer, is_solved, created_at) VALUES (?, ?, ?, ?, ?)",
+                quizzes,
+                BATCH_SIZE,
+                (ps, quiz) -> {
+                    ps.setLong(1, bookId);
+                    ps.setString(2, quiz.question());
+                    ps.setBoolean(3, quiz.correctAnswer());
+                    ps.setBoolean(4, false);
+                    ps.setTimestamp(5, now);
+                }
+        );
+    }
+
+    public record SentenceRow(
+            int paragraphNumber,
+            int sentenceOrder,
+            String englishText,
+            String koreanText,
+            String annotations
+    ) {
+        public static SentenceRow of(Sentence sentence) {
+            return new SentenceRow(
+                    sentence.getParagraphNumber(),
+                    sentence.getSentenceOrder(),
+                    sentence.getEnglishText(),
+                    sentence.getKoreanText(),
+                    ANNOTATIONS_CONVERTER.convertToDatabaseColumn(sentence.getAnnotations())
+            );
+        }
+    }
+
+    public record QuizRow(
+            String question,
+            boolean correctAnswer
+    ) {
+        public static QuizRow of(Quiz quiz) {
+            return new QuizRow(quiz.getQuestion(), quiz.getCorrectAnswer());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.finale.finale.book.repository;
 import com.finale.finale.auth.domain.User;
 import com.finale.finale.book.domain.Book;
 import com.finale.finale.book.domain.BookCategory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,16 +11,31 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
 
-    @Query("SELECT b FROM Book b LEFT JOIN FETCH b.reviewWords WHERE b.user = :user AND b.isProvision = false ORDER BY b.createdAt ASC LIMIT 1")
-    Optional<Book> findFirstByUserAndIsProvisionFalseWithReviewWords(@Param("user") User user);
+    @Query("SELECT b.id FROM Book b WHERE b.user.id = :userId AND b.isProvision = false ORDER BY b.createdAt ASC LIMIT 1")
+    Optional<Long> findFirstReadyBookId(@Param("userId") Long userId);
+
+    @Query("SELECT b FROM Book b LEFT JOIN FETCH b.reviewWords WHERE b.id = :bookId")
+    Optional<Book> findByIdWithReviewWords(@Param("bookId") Long bookId);
+
+    @Modifying
+    @Query("UPDATE Book b SET b.isProvision = true WHERE b.id = :bookId")
+    void markAsProvision(@Param("bookId") Long bookId);
 
     int countByUserAndIsProvisionFalse(User user);
 
+    long countByUser_Id(Long userId);
+
+    @Query("SELECT b.id FROM Book b WHERE b.user.id = :userId ORDER BY b.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    boolean existsByUser_IdAndTitle(Long userId, String title);
+
     List<Book> findAllByUser(User user);
 
     @Query(value = "SELECT b FROM Book b " +
@@ -39,21 +55,61 @@ public interface BookRepository extends JpaRepository<Book, Long> {
             Pageable pageable
     );
 
-    @Modifying
-    @Query(value = "DELETE FROM book_review_words WHERE book_id = :bookId", nativeQuery = true)
-    void deleteReviewWordsByBookId(@Param("bookId") Long bookId);
+    @Query("SELECT b FROM Book b " +
+            "WHERE b.user.id = :userId " +
+            "AND b.isCompleted = true " +
+            "AND (:category IS NULL OR b.category = :category) " +
+            "AND (:bookmarked IS NULL OR b.isBookmarked = :bookmarked) " +
+            "AND (:cursorAt IS NULL OR b.completedAt < :cursorAt " +
+            "OR (b.completedAt = :cursorAt AND b.id < :cursorId)) " +
+            "ORDER BY b.completedAt DESC, b.id DESC")
+    List<Book> findCompletedBooksBefore(
+            @Param("userId") Long userId,
+            @Param("category") BookCategory category,
+            @Param("bookmarked") Boolean bookmarked,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    @Query("SELECT b FROM Book b " +
+            "WHERE b.user.id = :userId " +
+            "AND b.isCompleted = true " +
+            "AND (:category IS NULL OR b.category = :category) " +
+            "AND (:bookmarked IS NULL OR b.isBookmarked = :bookmarked) " +
+            "AND (:cursorAt IS NULL OR b.completedAt > :cursorAt " +
+            "OR (b.completedAt = :cursorAt AND b.id > :cursorId)) " +
+            "ORDER BY b.completedAt ASC, b.id ASC")
+    List<Book> findCompletedBooksAfter(
+            @Param("userId") Long userId,
+            @Param("category") BookCategory category,
+            @Param("bookmarked") Boolean bookmarked,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    @Query("SELECT COUNT(b) FROM Book b " +
+            "WHERE b.user.id = :userId " +
+            "AND b.isCompleted = true " +
+            "AND (:category IS NULL OR b.category = :category) " +
+            "AND (:bookmarked IS NULL OR b.isBookmarked = :bookmarked)")
+    long countCompletedBooks(
+            @Param("userId") Long userId,
+            @Param("category") BookCategory category,
+            @Param("bookmarked") Boolean bookmarked
+    );
 
     @Modifying
-    @Query(value = "DELETE FROM book_review_phrases WHERE book_id = :bookId", nativeQuery = true)
-    void deleteReviewPhrasesByBookId(@Param("bookId") Long bookId);
+    @Query(value = "DELETE FROM book_review_words WHERE book_id IN (:bookIds)", nativeQuery = true)
+    void deleteReviewWordsByBookIdIn(@Param("bookIds") List<Long> bookIds);
 
     @Modifying
-    @Query(value = "DELETE FROM book_review_words WHERE unknown_word_id IN " +
-            "(SELECT id FROM unknown_words WHERE book_id = :bookId)", nativeQuery = true)
-    void deleteAllReviewWordsByUnknownWordsOfBook(@Param("bookId") Long bookId);
+    @Query(value = "DELETE FROM book_review_phrases WHERE book_id IN (:bookIds) " +
+            "OR unknown_phrase_id IN (SELECT id FROM unknown_phrases WHERE book_id IN (:bookIds))", nativeQuery = true)
+    void deleteReviewPhrasesByBookIdIn(@Param("bookIds") List<Long> bookIds);
 
     @Modifying
-    @Query(value = "DELETE FROM book_review_phrases WHERE unknown_phrase_id IN " +
-            "(SELECT id FROM unknown_phrases WHERE book_id = :bookId)", nativeQuery = true)
-    void deleteAllReviewPhrasesByUnknownPhrasesOfBook(@Param("bookId") Long bookId);
+    @Query("DELETE FROM Book b WHERE b.id IN :bookIds")
+    void deleteAllByIdIn(@Param("bookIds") List<Long> bookIds);
 }
@@ -0,0 +1,12 @@
+package com.finale.finale.book.repository;
+
+import com.finale.finale.book.domain.UnknownWord;
+import com.finale.finale.book.domain.WordOccurrence;
+
+public record BookWordOccurrence(UnknownWord word, WordOccurrence occurrence) {
+
+    public BookWordOccurrence(UnknownWord word, Long bookId, Long sentenceId, String sentence, String sentenceMeaning,
+                              Integer location, Integer length) {
+        this(word, new WordOccurrence(bookId, sentenceId, sentence, sentenceMeaning, location, length));
+    }
+}
@@ -1,8 +0,0 @@
-package com.finale.finale.book.repository;
-
-import com.finale.finale.book.domain.PhraseWord;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface PhraseWordRepository extends JpaRepository<PhraseWord, Long> {
-
-}
@@ -3,6 +3,9 @@ package com.finale.finale.book.repository;
 import com.finale.finale.book.domain.Book;
 import com.finale.finale.book.domain.Quiz;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,5 +13,7 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
 
     List<Quiz> findAllByBook(Book book);
 
-    void deleteAllByBook(Book book);
+    @Modifying
+    @Query("DELETE FROM Quiz q WHERE q.book.id IN :bookIds")
+    void deleteAllByBookIdIn(@Param("bookIds") List<Long> bookIds);
 }
@@ -0,0 +1,199 @@
+package com.finale.finale.book.repository;
+
+import com.finale.finale.book.domain.UnknownPhrase;
+import com.finale.finale.book.domain.UnknownPhraseWord;
+import com.finale.finale.book.domain.UnknownWord;
+import com.finale.finale.book.domain.WordOccurrence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewItemJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ReviewSchedule> insertUnknownWords(List<UnknownWord> words) {
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO unknown_words (user_id, book_id, word, lemma, word_meaning, sentence, sentence_meaning, " +
+                        "sentence_id, location, length, review_count, next_review_date, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE book_id = VALUES(book_id), word_meaning = VALUES(word_meaning), " +
+                        "sentence = VALUES(sentence), sentence_meaning = VALUES(sentence_meaning), " +
+                        "sentence_id = VALUES(sentence_id), location = VALUES(location), length = VALUES(length)",
+                words,
+                BATCH_SIZE,
+                (ps, word) -> {
+                    ps.setLong(1, word.getUser().getId());
+                    ps.setLong(2, word.getBook().getId());
+                    ps.setString(3, word.getWord());
+                    ps.setString(4, word.getLemma());
+                    ps.setString(5, word.getWordMeaning());
+                    ps.setString(6, word.getSentence());
+                    ps.setString(7, word.getSentenceMeaning());
+                    ps.setLong(8, word.getSentenceId());
+                    ps.setInt(9, word.getLocation());
+                    ps.setInt(10, word.getLength());
+                    ps.setInt(11, word.getReviewCount());
+                    ps.setDate(12, Date.valueOf(word.getNextReviewDate()));
+                    ps.setTimestamp(13, now);
+                }
+        );
+
+        Map<String, ReviewSchedule> schedulesByLemma = findSchedulesByLemma(
+                words.get(0).getUser().getId(),
+                words.stream().map(UnknownWord::getLemma).toList()
+        );
+
+        List<ReviewSchedule> schedules = new ArrayList<>(words.size());
+        List<OccurrenceRow> occurrences = new ArrayList<>(words.size());
+        for (UnknownWord word : words) {
+            ReviewSchedule schedule = schedulesByLemma.get(word.getLemma());
+            schedules.add(schedule);
+            occurrences.add(new OccurrenceRow(schedule.id(), word.toOccurrence()));
+        }
+        batchInsertOccurrences(occurrences);
+        return schedules;
+    }
+
+    public void insertOccurrences(List<UnknownWord> words) {
+        batchInsertOccurrences(words.stream()
+                .map(word -> new OccurrenceRow(word.getId(), word.toOccurrence()))
+                .toList());
+    }
+
+    public List<ReviewSchedule> insertUnknownPhrases(List<UnknownPhrase> phrases) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = insertReturningKeys(
+                "INSERT INTO unknown_phrases (user_id, book_id, phrase, phrase_meaning, sentence, sentence_meaning, " +
+                        "sentence_id, review_count, next_review_date, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                phrases,
+                (ps, phrase) -> {
+                    ps.setLong(1, phrase.getUser().getId());
+                    ps.setLong(2, phrase.getBook().getId());
+                    ps.setString(3, phrase.getPhrase());
+                    ps.setString(4, phrase.getPhraseMeaning());
+                    ps.setString(5, phrase.getSentence());
+                    ps.setString(6, phrase.getSentenceMeaning());
+                    ps.setLong(7, phrase.getSentenceId());
+                    ps.setInt(8, phrase.getReviewCount());
+                    ps.setDate(9, Date.valueOf(phrase.getNextReviewDate()));
+                    ps.setTimestamp(10, now);
+                }
+        );
+
+        List<ReviewSchedule> schedules = new ArrayList<>(ids.size());
+        List<PhraseWordRow> words = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long phraseId = ids.get(i);
+            UnknownPhrase phrase = phrases.get(i);
+            schedules.add(new ReviewSchedule(phraseId, phrase.getNextReviewDate()));
+            for (UnknownPhraseWord word : phrase.getWords()) {
+                words.add(new PhraseWordRow(phraseId, word));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO unknown_phrase_words (unknown_phrase_id, word, location, length) VALUES (?, ?, ?, ?)",
+                words,
+                BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setLong(1, row.phraseId());
+                    ps.setString(2, row.word().getWord());
+                    ps.setInt(3, row.word().getLocation());
+                    ps.setInt(4, row.word().getLength());
+                }
+        );
+        return schedules;
+    }
+
+    private Map<String, ReviewSchedule> findSchedulesByLemma(Long userId, List<String> lemmas) {
+        String placeholders = String.join(", ", Collections.nCopies(lemmas.size(), "?"));
+        List<Object> args = new ArrayList<>(lemmas.size() + 1);
+        args.add(userId);
+        args.addAll(lemmas);
+
+        Map<String, ReviewSchedule> schedules = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, lemma, next_review_date FROM unknown_words WHERE user_id = ? AND lemma IN (" + placeholders + ")",
+                rs -> {
+                    schedules.put(rs.getString("lemma"),
+                            new ReviewSchedule(rs.getLong("id"), rs.getDate("next_review_date").toLocalDate()));
+                },
+                args.toArray()
+        );
+        return schedules;
+    }
+
+    private void batchInsertOccurrences(List<OccurrenceRow> occurrences) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO unknown_word_occurrences (unknown_word_id, book_id, sentence_id, sentence, " +
+                        "sentence_meaning, location, length) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                occurrences,
+                BATCH_SIZE,
+                (ps, row) -> {
+                    WordOccurrence occurrence = row.occurrence();
+                    ps.setLong(1, row.wordId());
+                    ps.setLong(2, occurrence.getBookId());
+                    ps.setLong(3, occurrence.getSentenceId());
+                    ps.setString(4, occurrence.getSentence());
+                    ps.setString(5, occurrence.getSentenceMeaning());
+                    ps.setInt(6, occurrence.getLocation());
+                    ps.setInt(7, occurrence.getLength());
+                }
+        );
+    }
+
+    private <T> List<Long> insertReturningKeys(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (T row : rows) {
+                    setter.setValues(ps, row);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> keys = new ArrayList<>(rows.size());
+                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        keys.add(generatedKeys.getLong(1));
+                    }
+                }
+                return keys;
+            }
+        });
+    }
+
+    private record PhraseWordRow(Long phraseId, UnknownPhraseWord word) {
+    }
+
+    private record OccurrenceRow(Long wordId, WordOccurrence occurrence) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.finale.finale.book.repository;
+
+import java.time.LocalDate;
+
+public record ReviewSchedule(Long id, LocalDate nextReviewDate) {
+}
@@ -3,6 +3,9 @@ package com.finale.finale.book.repository;
 import com.finale.finale.book.domain.Book;
 import com.finale.finale.book.domain.Sentence;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,5 +15,7 @@ public interface SentenceRepository extends JpaRepository<Sentence, Long> {
 
     List<Sentence> findAllByBook(Book book);
 
-    void deleteAllByBook(Book book);
+    @Modifying
+    @Query("DELETE FROM Sentence s WHERE s.book.id IN :bookIds")
+    void deleteAllByBookIdIn(@Param("bookIds") List<Long> bookIds);
 }
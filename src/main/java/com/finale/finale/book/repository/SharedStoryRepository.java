@@ -0,0 +1,64 @@
+package com.finale.finale.book.repository;
+
+import com.finale.finale.book.domain.BookCategory;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SharedStoryRepository {
+
+    private static final String PUSH_SCRIPT = """
+            local maxEntries = tonumber(ARGV[3])
+            redis.call('LREM', KEYS[1], 0, ARGV[1])
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+
+            local evicted = redis.call('LRANGE', KEYS[1], maxEntries, -1)
+            if #evicted > 0 then
+                redis.call('HDEL', KEYS[2], unpack(evicted))
+            end
+            redis.call('LTRIM', KEYS[1], 0, maxEntries - 1)
+
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return #evicted
+            """;
+
+    private final RedissonClient redissonClient;
+
+    public void push(BookCategory category, int levelBucket, String title, String story, int maxEntries, Duration ttl) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                PUSH_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(titlesKey(category, levelBucket), storiesKey(category, levelBucket)),
+                title, story, String.valueOf(maxEntries), String.valueOf(ttl.toMillis())
+        );
+    }
+
+    public List<String> findTitles(BookCategory category, int levelBucket) {
+        return redissonClient.<String>getList(titlesKey(category, levelBucket), StringCodec.INSTANCE).readAll();
+    }
+
+    public Optional<String> find(BookCategory category, int levelBucket, String title) {
+        RMap<String, String> stories = redissonClient.getMap(storiesKey(category, levelBucket), StringCodec.INSTANCE);
+        return Optional.ofNullable(stories.get(title));
+    }
+
+    private static String titlesKey(BookCategory category, int levelBucket) {
+        return "story-cache:v2:{" + category.name() + ":" + levelBucket + "}:titles";
+    }
+
+    private static String storiesKey(BookCategory category, int levelBucket) {
+        return "story-cache:v2:{" + category.name() + ":" + levelBucket + "}:stories";
+    }
+}
@@ -3,6 +3,9 @@ package com.finale.finale.book.repository;
 import com.finale.finale.book.domain.Book;
 import com.finale.finale.book.domain.UnknownPhrase;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,11 +14,19 @@ public interface UnknownPhraseRepository extends JpaRepository<UnknownPhrase, Lo
 
     List<UnknownPhrase> findTop5ByUser_IdAndNextReviewDateLessThanEqualOrderByNextReviewDateAsc(Long userId, LocalDate today);
 
+    @Query("SELECT new com.finale.finale.book.repository.ReviewSchedule(p.id, p.nextReviewDate) FROM UnknownPhrase p WHERE p.user.id = :userId")
+    List<ReviewSchedule> findReviewSchedulesByUserId(@Param("userId") Long userId);
+
     List<UnknownPhrase> findAllByBookIdIn(List<Long> bookIds);
 
     List<UnknownPhrase> findAllByBook(Book book);
 
-    void deleteAllByUserId(Long userId);
+    @Modifying
+    @Query(value = "DELETE FROM unknown_phrase_words WHERE unknown_phrase_id IN " +
+            "(SELECT id FROM unknown_phrases WHERE book_id IN (:bookIds))", nativeQuery = true)
+    void deleteWordsByBookIdIn(@Param("bookIds") List<Long> bookIds);
 
-    void deleteAllByBook(Book book);
+    @Modifying
+    @Query("DELETE FROM UnknownPhrase up WHERE up.book.id IN :bookIds")
+    void deleteAllByBookIdIn(@Param("bookIds") List<Long> bookIds);
 }
@@ -1,21 +1,61 @@
 package com.finale.finale.book.repository;
 
-import com.finale.finale.book.domain.Book;
 import com.finale.finale.book.domain.UnknownWord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface UnknownWordRepository extends JpaRepository<UnknownWord, Long> {
 
     List<UnknownWord> findTop5ByUser_IdAndNextReviewDateLessThanEqualOrderByNextReviewDateAsc(Long userId, LocalDate today);
 
-    List<UnknownWord> findAllByBookIdIn(List<Long> bookIds);
-
-    List<UnknownWord> findAllByBook(Book book);
-
-    void deleteAllByUserId(Long userId);
-
-    void deleteAllByBook(Book book);
+    @Query("SELECT new com.finale.finale.book.repository.ReviewSchedule(w.id, w.nextReviewDate) FROM UnknownWord w WHERE w.user.id = :userId")
+    List<ReviewSchedule> findReviewSchedulesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT w FROM UnknownWord w WHERE w.user.id = :userId AND w.lemma IN :lemmas")
+    List<UnknownWord> findAllByUserIdAndLemmaIn(@Param("userId") Long userId, @Param("lemmas") Collection<String> lemmas);
+
+    @Query("SELECT w.lemma FROM UnknownWord w WHERE w.user.id = :userId")
+    List<String> findLemmasByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.finale.finale.book.repository.BookWordOccurrence(" +
+            "w, o.bookId, o.sentenceId, o.sentence, o.sentenceMeaning, o.location, o.length) " +
+            "FROM UnknownWord w JOIN w.occurrences o WHERE o.bookId = :bookId ORDER BY w.id")
+    List<BookWordOccurrence> findOccurrencesByBookId(@Param("bookId") Long bookId);
+
+    @Query("SELECT new com.finale.finale.book.repository.BookWordOccurrence(" +
+            "w, o.bookId, o.sentenceId, o.sentence, o.sentenceMeaning, o.location, o.length) " +
+            "FROM UnknownWord w JOIN w.occurrences o WHERE o.bookId IN :bookIds ORDER BY w.id")
+    List<BookWordOccurrence> findOccurrencesByBookIdIn(@Param("bookIds") List<Long> bookIds);
+
+    @Query(value = "SELECT DISTINCT book_id FROM unknown_word_occurrences WHERE unknown_word_id IN (:wordIds)", nativeQuery = true)
+    List<Long> findOccurrenceBookIdsByIdIn(@Param("wordIds") List<Long> wordIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM unknown_word_occurrences WHERE book_id IN (:bookIds)", nativeQuery = true)
+    void deleteOccurrencesByBookIdIn(@Param("bookIds") List<Long> bookIds);
+
+    @Modifying
+    @Query(value = "UPDATE unknown_words w " +
+            "JOIN unknown_word_occurrences o ON o.unknown_word_id = w.id " +
+            "SET w.book_id = o.book_id, w.sentence_id = o.sentence_id, w.sentence = o.sentence, " +
+            "w.sentence_meaning = o.sentence_meaning, w.location = o.location, w.length = o.length " +
+            "WHERE w.book_id IN (:bookIds) " +
+            "AND o.book_id = (SELECT MAX(latest.book_id) FROM unknown_word_occurrences latest " +
+            "WHERE latest.unknown_word_id = w.id)", nativeQuery = true)
+    void moveToLatestOccurrenceByBookIdIn(@Param("bookIds") List<Long> bookIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM book_review_words WHERE unknown_word_id IN " +
+            "(SELECT id FROM unknown_words WHERE book_id IN (:bookIds))", nativeQuery = true)
+    void deleteReviewLinksByBookIdIn(@Param("bookIds") List<Long> bookIds);
+
+    @Modifying
+    @Query("DELETE FROM UnknownWord uw WHERE uw.book.id IN :bookIds")
+    void deleteAllByBookIdIn(@Param("bookIds") List<Long> bookIds);
 }
@@ -0,0 +1,57 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookPoolRefillScheduler {
+
+    private static final String REFILL_LOCK_KEY = "book-pool-refill";
+
+    private final UserRepository userRepository;
+    private final StoryGenerationDispatcher storyGenerationDispatcher;
+    private final RedisLockService redisLockService;
+
+    @Value("${book.pool.low-watermark:1}")
+    private int lowWatermark;
+
+    @Value("${book.pool.active-days:7}")
+    private int activeDays;
+
+    @Value("${book.pool.refill-batch-size:50}")
+    private int refillBatchSize;
+
+    @Scheduled(cron = "${book.pool.refill-cron:0 */10 2-6 * * *}")
+    public void refill() {
+        if (!redisLockService.tryLock(REFILL_LOCK_KEY, 0, 540)) {
+            return;
+        }
+
+        try {
+            List<Long> userIds = userRepository.findPoolRefillCandidateIds(
+                    LocalDate.now().minusDays(activeDays),
+                    lowWatermark,
+                    PageRequest.of(0, refillBatchSize)
+            );
+
+            if (userIds.isEmpty()) {
+                return;
+            }
+
+            log.info("책 풀 보충 대상 유저 {}명", userIds.size());
+            userIds.forEach(storyGenerationDispatcher::dispatch);
+        } finally {
+            redisLockService.unlock(REFILL_LOCK_KEY);
+        }
+    }
+}
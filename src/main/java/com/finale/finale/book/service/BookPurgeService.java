@@ -0,0 +1,66 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.repository.UserRepository;
+import com.finale.finale.book.repository.*;
+import com.finale.finale.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookPurgeService {
+
+    private final BookRepository bookRepository;
+    private final SentenceRepository sentenceRepository;
+    private final QuizRepository quizRepository;
+    private final UnknownWordRepository unknownWordRepository;
+    private final UnknownPhraseRepository unknownPhraseRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${book.purge.chunk-size:100}")
+    private int chunkSize;
+
+    @Transactional
+    public void purge(List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+
+        bookRepository.deleteReviewWordsByBookIdIn(bookIds);
+        bookRepository.deleteReviewPhrasesByBookIdIn(bookIds);
+        unknownPhraseRepository.deleteWordsByBookIdIn(bookIds);
+        unknownPhraseRepository.deleteAllByBookIdIn(bookIds);
+        unknownWordRepository.deleteOccurrencesByBookIdIn(bookIds);
+        unknownWordRepository.moveToLatestOccurrenceByBookIdIn(bookIds);
+        unknownWordRepository.deleteReviewLinksByBookIdIn(bookIds);
+        unknownWordRepository.deleteAllByBookIdIn(bookIds);
+        sentenceRepository.deleteAllByBookIdIn(bookIds);
+        quizRepository.deleteAllByBookIdIn(bookIds);
+        bookRepository.deleteAllByIdIn(bookIds);
+    }
+
+    @Async(AsyncConfig.ACCOUNT_PURGE_EXECUTOR)
+    public void purgeUserAsync(Long userId) {
+        int purged = 0;
+        List<Long> bookIds;
+        do {
+            bookIds = bookRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+            List<Long> chunk = bookIds;
+            transactionTemplate.executeWithoutResult(status -> purge(chunk));
+            purged += chunk.size();
+        } while (bookIds.size() == chunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(userId));
+        log.info("User {} 유저의 탈퇴 처리가 완료되었습니다. (책 {}권 삭제)", userId, purged);
+    }
+}
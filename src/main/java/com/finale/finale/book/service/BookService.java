@@ -6,11 +6,13 @@ import com.finale.finale.book.domain.*;
 import com.finale.finale.book.dto.response.BookmarkResponse;
 import com.finale.finale.book.dto.response.CompletedBookDetailResponse;
 import com.finale.finale.book.dto.response.CompletedBooksResponse;
+import com.finale.finale.book.dto.response.CompletedBooksScrollResponse;
 import com.finale.finale.book.dto.response.StoryGenerationResponse;
 import com.finale.finale.book.repository.*;
 import com.finale.finale.exception.CustomException;
 import com.finale.finale.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,9 +20,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,29 +35,42 @@ public class BookService {
     private final BookRepository bookRepository;
     private final SentenceRepository sentenceRepository;
     private final QuizRepository quizRepository;
-    private final WordRepository wordRepository;
-    private final PhraseRepository phraseRepository;
     private final UnknownWordRepository unknownWordRepository;
     private final UnknownPhraseRepository unknownPhraseRepository;
     private final StoryResponseAssembler storyResponseAssembler;
     private final CompletedBooksAssembler completedBooksAssembler;
     private final CompletedBookDetailAssembler completedBookDetailAssembler;
+    private final BookPurgeService bookPurgeService;
+    private final StoryPayloadCache storyPayloadCache;
+    private final CompletedBookDetailCache completedBookDetailCache;
+    private final CompletedBookCountCache completedBookCountCache;
+    private final ReviewQueue reviewQueue;
 
     @Transactional
     public StoryGenerationResponse getNewStory(Long userId) {
-        User user = findUser(userId);
-        Book book = findReadyBook(user);
+        Long bookId = bookRepository.findFirstReadyBookId(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_READY));
 
-        List<Sentence> sentenceEntities = sentenceRepository.findAllByBook(book);
+        Optional<StoryGenerationResponse> cached = storyPayloadCache.get(bookId);
+        if (cached.isPresent()) {
+            bookRepository.markAsProvision(bookId);
+            storyPayloadCache.evict(bookId);
+            return cached.get();
+        }
 
-        StoryData storyData = loadStoryData(book, sentenceEntities);
-        StoryGenerationResponse response = storyResponseAssembler.toResponse(book, storyData);
+        Book book = findBookWithReviewWords(bookId);
+        StoryGenerationResponse response = assembleStory(book);
 
-        finalizeProvision(book, sentenceEntities);
+        book.markAsProvision();
 
         return response;
     }
 
+    @Transactional(readOnly = true)
+    public void cacheStory(Long bookId) {
+        storyPayloadCache.put(assembleStory(findBookWithReviewWords(bookId)));
+    }
+
     @Transactional
     public BookmarkResponse toggleBookmark(Long userId, Long bookId) {
         User user = userRepository.findById(userId)
@@ -63,6 +80,8 @@ public class BookService {
 
         book.validateOwner(user);
         book.toggleIsBookmarked();
+        completedBookDetailCache.evict(userId, List.of(bookId));
+        completedBookCountCache.evict(userId);
 
         return new BookmarkResponse(book.getId(), book.getIsBookmarked());
     }
@@ -80,31 +99,7 @@ public class BookService {
                 : null;
 
         Page<Book> bookPage = bookRepository.findCompletedBooks(user, bookCategory, bookmarked, pageable);
-
-        List<Long> bookIds = bookPage.getContent().stream()
-                .map(Book::getId)
-                .toList();
-
-        List<UnknownWord> unknownWords = bookIds.isEmpty()
-                ? Collections.emptyList()
-                : unknownWordRepository.findAllByBookIdIn(bookIds);
-
-        List<UnknownPhrase> unknownPhrases = bookIds.isEmpty()
-                ? Collections.emptyList()
-                : unknownPhraseRepository.findAllByBookIdIn(bookIds);
-
-        Map<Long, List<UnknownWord>> unknownWordsByBook = unknownWords.stream()
-                .collect(Collectors.groupingBy(uw -> uw.getBook().getId()));
-
-        Map<Long, List<UnknownPhrase>> unknownPhrasesByBook =
-                unknownPhrases.stream()
-                        .collect(Collectors.groupingBy(up -> up.getBook().getId()));
-
-        List<CompletedBooksResponse.CompletedBook> content = completedBooksAssembler.toCompletedBooks(
-                bookPage.getContent(),
-                unknownWordsByBook,
-                unknownPhrasesByBook
-        );
+        List<CompletedBooksResponse.CompletedBook> content = toCompletedBooks(bookPage.getContent());
 
         return new CompletedBooksResponse(
                 content,
@@ -117,8 +112,40 @@ public class BookService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public CompletedBooksScrollResponse getCompletedBooksScroll(
+            Long userId, String cursor, int size, String sort, String category, Boolean bookmarked, boolean includeTotal
+    ) {
+        BookCategory bookCategory = category != null
+                ? BookCategory.valueOf(category.toUpperCase())
+                : null;
+        CompletedBookCursor after = cursor != null ? CompletedBookCursor.decode(cursor) : null;
+        LocalDateTime cursorAt = after != null ? after.completedAt() : null;
+        Long cursorId = after != null ? after.id() : null;
+
+        List<Book> books = sort.equals("latest")
+                ? bookRepository.findCompletedBooksBefore(userId, bookCategory, bookmarked, cursorAt, cursorId, Limit.of(size + 1))
+                : bookRepository.findCompletedBooksAfter(userId, bookCategory, bookmarked, cursorAt, cursorId, Limit.of(size + 1));
+
+        boolean hasNext = books.size() > size;
+        List<Book> page = hasNext ? books.subList(0, size) : books;
+        String nextCursor = hasNext ? CompletedBookCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        Long totalElements = includeTotal
+                ? completedBookCountCache.get(userId, bookCategory, bookmarked,
+                        () -> bookRepository.countCompletedBooks(userId, bookCategory, bookmarked))
+                : null;
+
+        return new CompletedBooksScrollResponse(toCompletedBooks(page), nextCursor, hasNext, totalElements);
+    }
+
     @Transactional(readOnly = true)
     public CompletedBookDetailResponse getCompletedBookDetail(Long userId, Long bookId) {
+        Optional<CompletedBookDetailResponse> cached = completedBookDetailCache.get(userId, bookId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         Book book = bookRepository.findById(bookId)
@@ -129,10 +156,13 @@ public class BookService {
 
         List<Sentence> sentences = sentenceRepository.findAllByBook(book);
         List<Quiz> quizzes = quizRepository.findAllByBook(book);
-        List<UnknownWord> unknownWords = unknownWordRepository.findAllByBook(book);
+        List<BookWordOccurrence> unknownWords = unknownWordRepository.findOccurrencesByBookId(book.getId());
         List<UnknownPhrase> unknownPhrases = unknownPhraseRepository.findAllByBook(book);
 
-        return completedBookDetailAssembler.toResponse(book, sentences, quizzes, unknownWords, unknownPhrases);
+        CompletedBookDetailResponse response = completedBookDetailAssembler.toResponse(book, sentences, quizzes, unknownWords, unknownPhrases);
+        completedBookDetailCache.put(userId, bookId, response);
+
+        return response;
     }
 
     @Transactional
@@ -144,58 +174,56 @@ public class BookService {
 
         book.validateOwner(user);
 
-        bookRepository.deleteAllReviewWordsByUnknownWordsOfBook(bookId);
-        bookRepository.deleteAllReviewPhrasesByUnknownPhrasesOfBook(bookId);
-        bookRepository.deleteReviewWordsByBookId(bookId);
-        bookRepository.deleteReviewPhrasesByBookId(bookId);
+        bookPurgeService.purge(List.of(bookId));
+        storyPayloadCache.evict(bookId);
+        completedBookDetailCache.evict(userId, List.of(bookId));
+        completedBookCountCache.evict(userId);
+        reviewQueue.invalidate(userId);
+    }
 
-        List<Sentence> sentences = sentenceRepository.findAllByBook(book);
+    private List<CompletedBooksResponse.CompletedBook> toCompletedBooks(List<Book> books) {
+        List<Long> bookIds = books.stream()
+                .map(Book::getId)
+                .toList();
+
+        List<BookWordOccurrence> unknownWords = bookIds.isEmpty()
+                ? Collections.emptyList()
+                : unknownWordRepository.findOccurrencesByBookIdIn(bookIds);
+
+        List<UnknownPhrase> unknownPhrases = bookIds.isEmpty()
+                ? Collections.emptyList()
+                : unknownPhraseRepository.findAllByBookIdIn(bookIds);
+
+        Map<Long, List<BookWordOccurrence>> unknownWordsByBook = unknownWords.stream()
+                .collect(Collectors.groupingBy(uw -> uw.occurrence().getBookId()));
 
-        sentences.forEach(sentence -> {
-            wordRepository.deleteAllBySentence(sentence);
-            phraseRepository.deleteAllBySentence(sentence);
-        });
+        Map<Long, List<UnknownPhrase>> unknownPhrasesByBook =
+                unknownPhrases.stream()
+                        .collect(Collectors.groupingBy(up -> up.getBook().getId()));
 
-        unknownWordRepository.deleteAllByBook(book);
-        unknownPhraseRepository.deleteAllByBook(book);
-        sentenceRepository.deleteAllByBook(book);
-        quizRepository.deleteAllByBook(book);
-        bookRepository.delete(book);
+        return completedBooksAssembler.toCompletedBooks(
+                books,
+                unknownWordsByBook,
+                unknownPhrasesByBook
+        );
     }
 
-    private User findUser(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    private Book findBookWithReviewWords(Long bookId) {
+        return bookRepository.findByIdWithReviewWords(bookId)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
     }
 
-    private Book findReadyBook(User user) {
-        return bookRepository.findFirstByUserAndIsProvisionFalseWithReviewWords(user)
-                .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_READY));
+    private StoryGenerationResponse assembleStory(Book book) {
+        List<Sentence> sentences = sentenceRepository.findAllByBook(book);
+        return storyResponseAssembler.toResponse(book, loadStoryData(book, sentences));
     }
 
     private StoryData loadStoryData(Book book, List<Sentence> sentences) {
-        List<Word> allWords = wordRepository.findAllBySentenceIn(sentences);
-        List<Phrase> allPhrases = phraseRepository.findAllBySentenceIn(sentences);
-
-        Map<Long, List<Word>> wordsBySentence = allWords.stream()
-                .collect(Collectors.groupingBy(w -> w.getSentence().getId()));
-        Map<Long, List<Phrase>> phrasesBySentence = allPhrases.stream()
-                .collect(Collectors.groupingBy(p -> p.getSentence().getId()));
-
         List<Quiz> quizzes = quizRepository.findAllByBook(book);
         List<UnknownWord> unknownWords = book.getReviewWords().stream().toList();
         List<UnknownPhrase> unknownPhrases = book.getReviewPhrases().stream().toList();
 
-        return new StoryData(sentences, wordsBySentence, phrasesBySentence, quizzes, unknownWords, unknownPhrases);
-    }
-
-    private void finalizeProvision(Book book, List<Sentence> sentences) {
-        book.markAsProvision();
-
-        sentences.forEach(sentence -> {
-            wordRepository.deleteAllBySentence(sentence);
-            phraseRepository.deleteAllBySentence(sentence);
-        });
+        return new StoryData(sentences, quizzes, unknownWords, unknownPhrases);
     }
 
 }
@@ -0,0 +1,105 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.Phrase;
+import com.finale.finale.book.domain.PhraseWord;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.book.domain.Word;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record CachedStory(
+        String title,
+        int totalWords,
+        List<CachedSentence> sentences,
+        List<ParsedStory.QuizData> quizzes
+) {
+    public static CachedStory of(ParsedStory story, SentenceAnalysis analysis) {
+        Map<Sentence, List<CachedWord>> words = new IdentityHashMap<>();
+        for (Word word : analysis.words()) {
+            words.computeIfAbsent(word.getSentence(), key -> new ArrayList<>())
+                    .add(new CachedWord(word.getWord(), word.getMeaning(), word.getLocation()));
+        }
+
+        Map<Sentence, List<CachedPhrase>> phrases = new IdentityHashMap<>();
+        for (Phrase phrase : analysis.phrases()) {
+            List<CachedWord> expression = phrase.getExpression().stream()
+                    .map(phraseWord -> new CachedWord(phraseWord.getWord(), null, phraseWord.getLocation()))
+                    .toList();
+            phrases.computeIfAbsent(phrase.getSentence(), key -> new ArrayList<>())
+                    .add(new CachedPhrase(phrase.getMeaning(), expression));
+        }
+
+        List<CachedSentence> sentences = story.sentences().stream()
+                .map(sentence -> new CachedSentence(
+                        sentence.getParagraphNumber(),
+                        sentence.getSentenceOrder(),
+                        sentence.getEnglishText(),
+                        sentence.getKoreanText(),
+                        words.getOrDefault(sentence, List.of()),
+                        phrases.getOrDefault(sentence, List.of())
+                ))
+                .toList();
+
+        return new CachedStory(story.title(), story.totalWords(), sentences, story.quizDataList());
+    }
+
+    public ParsedStory toParsedStory() {
+        List<Sentence> restored = sentences.stream()
+                .map(sentence -> new Sentence(
+                        null,
+                        sentence.paragraphNumber(),
+                        sentence.sentenceOrder(),
+                        sentence.englishText(),
+                        sentence.koreanText()
+                ))
+                .toList();
+
+        return new ParsedStory(title, restored, quizzes, totalWords);
+    }
+
+    public SentenceAnalysis toAnalysis(List<Sentence> restored) {
+        SentenceAnalysis analysis = SentenceAnalysis.empty();
+
+        for (int i = 0; i < sentences.size(); i++) {
+            CachedSentence cached = sentences.get(i);
+            Sentence sentence = restored.get(i);
+
+            for (CachedWord word : cached.words()) {
+                analysis.words().add(new Word(sentence, word.word(), word.meaning(), word.location()));
+            }
+
+            for (CachedPhrase cachedPhrase : cached.phrases()) {
+                Phrase phrase = new Phrase(sentence, cachedPhrase.meaning());
+                for (CachedWord word : cachedPhrase.expression()) {
+                    phrase.addPhraseWord(new PhraseWord(phrase, word.word(), word.location()));
+                }
+                analysis.phrases().add(phrase);
+            }
+        }
+
+        return analysis;
+    }
+
+    public record CachedSentence(
+            int paragraphNumber,
+            int sentenceOrder,
+            String englishText,
+            String koreanText,
+            List<CachedWord> words,
+            List<CachedPhrase> phrases
+    ) {}
+
+    public record CachedWord(
+            String word,
+            String meaning,
+            int location
+    ) {}
+
+    public record CachedPhrase(
+            String meaning,
+            List<CachedWord> expression
+    ) {}
+}
@@ -0,0 +1,60 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.BookCategory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompletedBookCountCache {
+
+    private final RedissonClient redissonClient;
+
+    @Value("${book.completed-count-cache.ttl:30m}")
+    private Duration ttl;
+
+    public long get(Long userId, BookCategory category, Boolean bookmarked, Supplier<Long> loader) {
+        String field = category + ":" + bookmarked;
+
+        try {
+            String cached = getMap(userId).get(field);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read completed book count for user {}", userId, e);
+            return loader.get();
+        }
+
+        long count = loader.get();
+        try {
+            RMap<String, String> map = getMap(userId);
+            map.fastPut(field, Long.toString(count));
+            map.expire(ttl);
+        } catch (Exception e) {
+            log.warn("Failed to cache completed book count for user {}", userId, e);
+        }
+        return count;
+    }
+
+    public void evict(Long userId) {
+        try {
+            getMap(userId).delete();
+        } catch (Exception e) {
+            log.warn("Failed to evict completed book count for user {}", userId, e);
+        }
+    }
+
+    private RMap<String, String> getMap(Long userId) {
+        return redissonClient.getMap("completed-count:" + userId, StringCodec.INSTANCE);
+    }
+}
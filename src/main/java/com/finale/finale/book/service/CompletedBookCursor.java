@@ -0,0 +1,37 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.Book;
+import com.finale.finale.exception.CustomException;
+import com.finale.finale.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record CompletedBookCursor(LocalDateTime completedAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static CompletedBookCursor of(Book book) {
+        return new CompletedBookCursor(book.getCompletedAt(), book.getId());
+    }
+
+    public static CompletedBookCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new CompletedBookCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR_PARAMETER);
+        }
+    }
+
+    public String encode() {
+        String raw = completedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,8 +4,8 @@ import com.finale.finale.book.domain.Book;
 import com.finale.finale.book.domain.Quiz;
 import com.finale.finale.book.domain.Sentence;
 import com.finale.finale.book.domain.UnknownPhrase;
-import com.finale.finale.book.domain.UnknownWord;
 import com.finale.finale.book.dto.response.CompletedBookDetailResponse;
+import com.finale.finale.book.repository.BookWordOccurrence;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -18,7 +18,7 @@ public class CompletedBookDetailAssembler {
             Book book,
             List<Sentence> sentences,
             List<Quiz> quizzes,
-            List<UnknownWord> unknownWords,
+            List<BookWordOccurrence> unknownWords,
             List<UnknownPhrase> unknownPhrases
     ) {
         return new CompletedBookDetailResponse(
@@ -58,19 +58,19 @@ public class CompletedBookDetailAssembler {
                 .toList();
     }
 
-    private List<CompletedBookDetailResponse.UnknownWordResponse> buildUnknownWordResponses(List<UnknownWord> unknownWords) {
+    private List<CompletedBookDetailResponse.UnknownWordResponse> buildUnknownWordResponses(List<BookWordOccurrence> unknownWords) {
         return unknownWords.stream()
-                .map(word -> new CompletedBookDetailResponse.UnknownWordResponse(
-                        word.getId(),
-                        word.getWord(),
-                        word.getWordMeaning(),
-                        word.getSentenceId(),
-                        word.getSentence(),
-                        word.getSentenceMeaning(),
-                        word.getLocation(),
-                        word.getLength(),
-                        word.getNextReviewDate(),
-                        word.getCreatedAt()
+                .map(unknownWord -> new CompletedBookDetailResponse.UnknownWordResponse(
+                        unknownWord.word().getId(),
+                        unknownWord.word().getWord(),
+                        unknownWord.word().getWordMeaning(),
+                        unknownWord.occurrence().getSentenceId(),
+                        unknownWord.occurrence().getSentence(),
+                        unknownWord.occurrence().getSentenceMeaning(),
+                        unknownWord.occurrence().getLocation(),
+                        unknownWord.occurrence().getLength(),
+                        unknownWord.word().getNextReviewDate(),
+                        unknownWord.word().getCreatedAt()
                 ))
                 .toList();
     }
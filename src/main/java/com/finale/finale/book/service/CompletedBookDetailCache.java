@@ -0,0 +1,153 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finale.finale.book.dto.response.CompletedBookDetailResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class CompletedBookDetailCache {
+
+    private static final String KEY_PREFIX = "book-detail:";
+    private static final String INVALIDATION_TOPIC = "book-detail:invalidate";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CompletedBookDetailResponse> localCache;
+    private final Duration redisTtl;
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public CompletedBookDetailCache(
+            RedissonClient redissonClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${book.detail-cache.local.max-size:10000}") long localMaxSize,
+            @Value("${book.detail-cache.local.ttl:10m}") Duration localTtl,
+            @Value("${book.detail-cache.redis.ttl:1d}") Duration redisTtl
+    ) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.localHits = counter(meterRegistry, "local", "hit");
+        this.redisHits = counter(meterRegistry, "redis", "hit");
+        this.misses = counter(meterRegistry, "none", "miss");
+    }
+
+    @PostConstruct
+    void subscribeInvalidations() {
+        getTopic().addListener(String.class, (channel, key) -> localCache.invalidate(key));
+    }
+
+    public Optional<CompletedBookDetailResponse> get(Long userId, Long bookId) {
+        String key = key(userId, bookId);
+
+        CompletedBookDetailResponse local = localCache.getIfPresent(key);
+        if (local != null) {
+            localHits.increment();
+            return Optional.of(local);
+        }
+
+        try {
+            String json = getBucket(key).get();
+            if (json != null) {
+                CompletedBookDetailResponse response = objectMapper.readValue(json, CompletedBookDetailResponse.class);
+                localCache.put(key, response);
+                redisHits.increment();
+                return Optional.of(response);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read cached detail for book {}", bookId, e);
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(Long userId, Long bookId, CompletedBookDetailResponse response) {
+        String key = key(userId, bookId);
+        localCache.put(key, response);
+
+        try {
+            getBucket(key).set(objectMapper.writeValueAsString(response), redisTtl);
+        } catch (Exception e) {
+            log.warn("Failed to cache detail for book {}", bookId, e);
+        }
+    }
+
+    public void evict(Long userId, Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = bookIds.stream()
+                .distinct()
+                .map(bookId -> key(userId, bookId))
+                .toList();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictKeys(keys);
+                }
+            });
+        } else {
+            evictKeys(keys);
+        }
+    }
+
+    private void evictKeys(List<String> keys) {
+        localCache.invalidateAll(keys);
+
+        try {
+            redissonClient.getKeys().delete(keys.toArray(String[]::new));
+            RTopic topic = getTopic();
+            keys.forEach(topic::publish);
+        } catch (Exception e) {
+            log.warn("Failed to evict cached details {}", keys, e);
+        }
+    }
+
+    private RBucket<String> getBucket(String key) {
+        return redissonClient.getBucket(key, StringCodec.INSTANCE);
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+    }
+
+    private String key(Long userId, Long bookId) {
+        return KEY_PREFIX + userId + ":" + bookId;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("book.detail.cache.requests")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -2,8 +2,8 @@ package com.finale.finale.book.service;
 
 import com.finale.finale.book.domain.Book;
 import com.finale.finale.book.domain.UnknownPhrase;
-import com.finale.finale.book.domain.UnknownWord;
 import com.finale.finale.book.dto.response.CompletedBooksResponse;
+import com.finale.finale.book.repository.BookWordOccurrence;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -14,7 +14,7 @@ public class CompletedBooksAssembler {
 
     public List<CompletedBooksResponse.CompletedBook> toCompletedBooks(
             List<Book> books,
-            Map<Long, List<UnknownWord>> unknownWordsByBook,
+            Map<Long, List<BookWordOccurrence>> unknownWordsByBook,
             Map<Long, List<UnknownPhrase>> unknownPhrasesByBook
     ) {
         return books.stream()
@@ -28,21 +28,21 @@ public class CompletedBooksAssembler {
 
     private CompletedBooksResponse.CompletedBook toCompletedBook(
             Book book,
-            List<UnknownWord> unknownWords,
+            List<BookWordOccurrence> unknownWords,
             List<UnknownPhrase> unknownPhrases
     ) {
         List<CompletedBooksResponse.UnknownWordResponse> unknownWordResponses = unknownWords.stream()
-                .map(word -> CompletedBooksResponse.UnknownWordResponse.builder()
-                        .id(word.getId())
-                        .word(word.getWord())
-                        .wordMeaning(word.getWordMeaning())
-                        .sentenceId(word.getSentenceId())
-                        .sentence(word.getSentence())
-                        .sentenceMeaning(word.getSentenceMeaning())
-                        .location(word.getLocation())
-                        .length(word.getLength())
-                        .nextReviewDate(word.getNextReviewDate())
-                        .createdAt(word.getCreatedAt())
+                .map(unknownWord -> CompletedBooksResponse.UnknownWordResponse.builder()
+                        .id(unknownWord.word().getId())
+                        .word(unknownWord.word().getWord())
+                        .wordMeaning(unknownWord.word().getWordMeaning())
+                        .sentenceId(unknownWord.occurrence().getSentenceId())
+                        .sentence(unknownWord.occurrence().getSentence())
+                        .sentenceMeaning(unknownWord.occurrence().getSentenceMeaning())
+                        .location(unknownWord.occurrence().getLocation())
+                        .length(unknownWord.occurrence().getLength())
+                        .nextReviewDate(unknownWord.word().getNextReviewDate())
+                        .createdAt(unknownWord.word().getCreatedAt())
                         .build())
                 .toList();
 
@@ -1,10 +1,14 @@
 package com.finale.finale.book.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.finale.finale.auth.domain.User;
 import com.finale.finale.book.domain.*;
-import com.finale.finale.book.repository.*;
+import com.finale.finale.book.repository.BookContentJdbcRepository;
+import com.finale.finale.book.repository.BookContentJdbcRepository.QuizRow;
+import com.finale.finale.book.repository.BookContentJdbcRepository.SentenceRow;
+import com.finale.finale.book.repository.BookRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
@@ -14,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Service
@@ -22,146 +25,122 @@ import java.util.Map;
 public class DefaultBookInjectionService {
 
     private final BookRepository bookRepository;
-    private final SentenceRepository sentenceRepository;
-    private final QuizRepository quizRepository;
-    private final WordRepository wordRepository;
-    private final PhraseRepository phraseRepository;
+    private final BookContentJdbcRepository bookContentJdbcRepository;
     private final ObjectMapper objectMapper;
 
     private static final String DEFAULT_BOOK_PATH = "default-book.json";
 
-    @Transactional
-    public void injectDefaultBook(User user) {
-        try {
-            Map<String, Object> bookData = loadDefaultBookData();
-
-            Book book = createBook(user, bookData);
-            bookRepository.save(book);
-            log.info("Default book created for user {}: {}", user.getId(), book.getTitle());
-
-            List<Map<String, Object>> sentencesData = getList(bookData, "sentences");
-            for (Map<String, Object> sentenceData : sentencesData) {
-                Sentence sentence = createSentence(book, sentenceData);
-                sentenceRepository.save(sentence);
-
-                List<Map<String, Object>> wordsData = getList(sentenceData, "words");
-                for (Map<String, Object> wordData : wordsData) {
-                    Word word = createWord(sentence, wordData);
-                    wordRepository.save(word);
-                }
-
-                List<Map<String, Object>> phrasesData = getList(sentenceData, "phrases");
-                for (Map<String, Object> phraseData : phrasesData) {
-                    Phrase phrase = createPhrase(sentence, phraseData);
-
-                    List<Map<String, Object>> expressionData = getList(phraseData, "expression");
-                    for (Map<String, Object> phraseWordData : expressionData) {
-                        PhraseWord phraseWord = new PhraseWord(
-                            phrase,
-                            getString(phraseWordData, "word"),
-                            getInt(phraseWordData, "location")
-                        );
-                        phrase.addPhraseWord(phraseWord);
-                    }
-
-                    phraseRepository.save(phrase);
-                }
-            }
-
-            List<Map<String, Object>> quizzesData = getList(bookData, "quizzes");
-            for (Map<String, Object> quizData : quizzesData) {
-                Quiz quiz = createQuiz(book, quizData);
-                quizRepository.save(quiz);
-            }
-
-            log.info("Default book injection completed for user {}", user.getId());
-        } catch (IOException e) {
-            log.error("Failed to inject default book for user {}: {}", user.getId(), e.getMessage());
-            throw new RuntimeException("Failed to load default book data", e);
-        }
-    }
+    private DefaultBookTemplate template;
 
-    private Map<String, Object> loadDefaultBookData() throws IOException {
+    @PostConstruct
+    void loadTemplate() {
         ClassPathResource resource = new ClassPathResource(DEFAULT_BOOK_PATH);
         try (InputStream inputStream = resource.getInputStream()) {
-            return objectMapper.readValue(inputStream, new TypeReference<Map<String, Object>>() {});
+            DefaultBookSource source = objectMapper.readValue(inputStream, DefaultBookSource.class);
+            template = source.toTemplate();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load default book data", e);
         }
+        log.info("Default book template loaded: {} ({} sentences)", template.title(), template.sentences().size());
     }
 
-    private Book createBook(User user, Map<String, Object> data) {
-        String categoryStr = getString(data, "category").toUpperCase();
-        BookCategory category = BookCategory.valueOf(categoryStr);
-
-        return new Book(
+    @Transactional
+    public void injectDefaultBook(User user) {
+        Book book = new Book(
             user,
-            getString(data, "title"),
-            category,
-            getInt(data, "abilityScore"),
-            getInt(data, "totalWordCount")
+            template.title(),
+            template.category(),
+            template.abilityScore(),
+            template.totalWordCount()
         );
-    }
+        bookRepository.save(book);
 
-    private Sentence createSentence(Book book, Map<String, Object> data) {
-        return new Sentence(
-            book,
-            getInt(data, "paragraphNumber"),
-            getInt(data, "sentenceOrder"),
-            getString(data, "englishText"),
-            getString(data, "koreanText")
-        );
-    }
-
-    private Word createWord(Sentence sentence, Map<String, Object> data) {
-        return new Word(
-            sentence,
-            getString(data, "word"),
-            getString(data, "meaning"),
-            getInt(data, "location")
-        );
-    }
+        bookContentJdbcRepository.insertSentenceRows(book.getId(), template.sentences());
+        bookContentJdbcRepository.insertQuizRows(book.getId(), template.quizzes());
 
-    private Phrase createPhrase(Sentence sentence, Map<String, Object> data) {
-        return new Phrase(
-            sentence,
-            getString(data, "meaning")
-        );
+        log.info("Default book injection completed for user {}", user.getId());
     }
 
-    private Quiz createQuiz(Book book, Map<String, Object> data) {
-        return new Quiz(
-            book,
-            getString(data, "question"),
-            getBoolean(data, "correctAnswer")
-        );
+    private record DefaultBookTemplate(
+            String title,
+            BookCategory category,
+            int abilityScore,
+            int totalWordCount,
+            List<SentenceRow> sentences,
+            List<QuizRow> quizzes
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record DefaultBookSource(
+            String title,
+            String category,
+            int abilityScore,
+            int totalWordCount,
+            List<SentenceSource> sentences,
+            List<QuizSource> quizzes
+    ) {
+        DefaultBookTemplate toTemplate() {
+            SentenceAnnotationsConverter converter = new SentenceAnnotationsConverter();
+            List<SentenceRow> sentenceRows = sentences.stream()
+                    .map(sentence -> new SentenceRow(
+                            sentence.paragraphNumber(),
+                            sentence.sentenceOrder(),
+                            sentence.englishText(),
+                            sentence.koreanText(),
+                            converter.convertToDatabaseColumn(sentence.toAnnotations())
+                    ))
+                    .toList();
+
+            List<QuizRow> quizRows = quizzes.stream()
+                    .map(quiz -> new QuizRow(quiz.question(), quiz.correctAnswer()))
+                    .toList();
+
+            return new DefaultBookTemplate(
+                    title,
+                    BookCategory.valueOf(category.toUpperCase()),
+                    abilityScore,
+                    totalWordCount,
+                    sentenceRows,
+                    quizRows
+            );
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> getList(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value == null) {
-            return List.of();
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record SentenceSource(
+            int paragraphNumber,
+            int sentenceOrder,
+            String englishText,
+            String koreanText,
+            List<WordSource> words,
+            List<PhraseSource> phrases
+    ) {
+        SentenceAnnotations toAnnotations() {
+            List<Word> annotatedWords = words == null ? List.of() : words.stream()
+                    .map(word -> new Word(null, word.word(), word.meaning(), word.location()))
+                    .toList();
+
+            List<Phrase> annotatedPhrases = phrases == null ? List.of() : phrases.stream()
+                    .map(source -> {
+                        Phrase phrase = new Phrase(null, source.meaning());
+                        if (source.expression() != null) {
+                            source.expression().forEach(word ->
+                                    phrase.addPhraseWord(new PhraseWord(phrase, word.word(), word.location())));
+                        }
+                        return phrase;
+                    })
+                    .toList();
+
+            return new SentenceAnnotations(annotatedWords, annotatedPhrases);
         }
-        return (List<Map<String, Object>>) value;
     }
 
-    private String getString(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        return value != null ? value.toString() : "";
-    }
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record WordSource(String word, String meaning, int location) {}
 
-    private int getInt(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        }
-        return 0;
-    }
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record PhraseSource(String meaning, List<WordSource> expression) {}
 
-    private boolean getBoolean(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value instanceof Boolean) {
-            return (Boolean) value;
-        }
-        return false;
-    }
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record QuizSource(String question, boolean correctAnswer) {}
 }
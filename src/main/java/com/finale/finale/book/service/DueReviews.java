@@ -0,0 +1,6 @@
+package com.finale.finale.book.service;
+
+import java.util.List;
+
+public record DueReviews(List<Long> wordIds, List<Long> phraseIds) {
+}
@@ -0,0 +1,81 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.domain.User;
+import com.finale.finale.auth.repository.UserRepository;
+import com.finale.finale.book.domain.Book;
+import com.finale.finale.book.domain.Quiz;
+import com.finale.finale.book.domain.ReviewGrade;
+import com.finale.finale.book.domain.ReviewScheduler;
+import com.finale.finale.book.domain.UnknownPhrase;
+import com.finale.finale.book.domain.UnknownWord;
+import com.finale.finale.book.repository.BookContentJdbcRepository;
+import com.finale.finale.book.repository.BookRepository;
+import com.finale.finale.book.repository.UnknownPhraseRepository;
+import com.finale.finale.book.repository.UnknownWordRepository;
+import com.finale.finale.exception.CustomException;
+import com.finale.finale.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class GeneratedBookWriter {
+
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final UnknownWordRepository unknownWordRepository;
+    private final UnknownPhraseRepository unknownPhraseRepository;
+    private final BookContentJdbcRepository bookContentJdbcRepository;
+    private final CompletedBookDetailCache completedBookDetailCache;
+    private final ReviewQueue reviewQueue;
+    private final ReviewScheduler reviewScheduler;
+
+    @Transactional
+    public Book write(GenerationData data, ParsedStory parsedData, SentenceAnalysis analysis) {
+        User user = userRepository.findById(data.userId())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        Book book = new Book(
+                user,
+                parsedData.title(),
+                data.category(),
+                data.abilityScore(),
+                parsedData.totalWords()
+        );
+
+        List<UnknownWord> reviewWords = unknownWordRepository.findAllById(data.reviewWordIds());
+        List<UnknownPhrase> reviewPhrases = unknownPhraseRepository.findAllById(data.reviewPhraseIds());
+
+        LocalDate today = LocalDate.now();
+        reviewWords.forEach(word -> word.nextReviewSetting(reviewScheduler, ReviewGrade.GOOD, today));
+        reviewPhrases.forEach(phrase -> phrase.nextReviewSetting(reviewScheduler, ReviewGrade.GOOD, today));
+        reviewQueue.schedule(data.userId(), reviewWords, reviewPhrases);
+        List<Long> reviewWordBookIds = reviewWords.isEmpty()
+                ? List.of()
+                : unknownWordRepository.findOccurrenceBookIdsByIdIn(reviewWords.stream().map(UnknownWord::getId).toList());
+        completedBookDetailCache.evict(data.userId(), Stream.concat(
+                reviewWordBookIds.stream(),
+                reviewPhrases.stream().map(phrase -> phrase.getBook().getId())
+        ).toList());
+
+        book.addReviewWord(reviewWords);
+        book.addReviewPhrase(reviewPhrases);
+        bookRepository.saveAndFlush(book);
+
+        List<Quiz> quizzes = parsedData.quizDataList().stream()
+                .map(qd -> new Quiz(book, qd.question(), qd.correctAnswer()))
+                .toList();
+        bookContentJdbcRepository.insertQuizzes(book.getId(), quizzes);
+
+        parsedData.sentences().forEach(sentence -> sentence.updateBook(book));
+        analysis.annotate(parsedData.sentences());
+        bookContentJdbcRepository.insertSentences(book.getId(), parsedData.sentences());
+
+        return book;
+    }
+}
@@ -0,0 +1,14 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.BookCategory;
+
+import java.util.List;
+
+record GenerationData(
+        Long userId,
+        Integer abilityScore,
+        BookCategory category,
+        String prompt,
+        List<Long> reviewWordIds,
+        List<Long> reviewPhraseIds
+) {}
@@ -14,8 +14,12 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,7 +33,12 @@ public class LearningService {
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
     private final SentenceRepository sentenceRepository;
-    private final UnknownPhraseRepository unknownPhraseRepository;
+    private final CompletedBookCountCache completedBookCountCache;
+    private final ReviewQueue reviewQueue;
+    private final ReviewScheduler reviewScheduler;
+    private final ReviewItemJdbcRepository reviewItemJdbcRepository;
+    private final CompletedBookDetailCache completedBookDetailCache;
+    private final VocabularyIndex vocabularyIndex;
 
     public CompleteResponse complete(Long userId, Long bookId, CompleteRequest request) {
         User user = userRepository.findById(userId)
@@ -50,22 +59,25 @@ public class LearningService {
 
         List<CompleteRequest.UnknownWord> unknownWordRequestList = request.unknownWords();
         int unknownWordCount = unknownWordRequestList.size();
-        saveUnknownWord(user, book, unknownWordRequestList);
+        SavedWords savedWords = saveUnknownWord(user, book, unknownWordRequestList);
 
         List<CompleteRequest.UnknownPhrase> unknownPhraseRequestList = request.unknownPhrases();
         int unknownPhraseCount = unknownPhraseRequestList != null ? unknownPhraseRequestList.size() : 0;
-        saveUnknownPhrase(user, book, unknownPhraseRequestList);
+        List<ReviewSchedule> savedPhrases = saveUnknownPhrase(user, book, unknownPhraseRequestList);
+        reviewQueue.scheduleAll(userId, savedWords.schedules(), savedPhrases);
 
         int beforeAbilityScore = user.getAbilityScore();
         int beforeTodaySentencesRead = user.getTodaySentencesReadCount();
         int beforeContinuousLearning = user.getContinuosLearning();
-        changeUserInformation(user, book, ansCount, unknownWordCount + unknownPhraseCount);
+        changeUserInformation(user, book, ansCount, unknownWordCount + unknownPhraseCount,
+                savedWords.newWordCount() + unknownPhraseCount);
         if (user.getTodayBooksReadCount() == 1) {
             beforeTodaySentencesRead = 0;
         }
         book.markAsCompleted();
         book.setCompletedAt();
         bookRepository.save(book);
+        completedBookCountCache.evict(userId);
 
         return new CompleteResponse(
                 bookId,
@@ -115,13 +127,13 @@ public class LearningService {
                 .collect(Collectors.toMap(Quiz::getId, quiz -> quiz));
     }
 
-    private void changeUserInformation(User user, Book book, int ansCount, int unknownWordCount) {
+    private void changeUserInformation(User user, Book book, int ansCount, int unknownWordCount, int newUnknownWordCount) {
         user.inclusionScore(ansCount, unknownWordCount, book.getTotalWordCount());
         int count = sentenceRepository.countByBookId(book.getId());
         user.learningStatusToday(count);
         user.increaseBookReadCount();
         user.addTotalSentences(count);
-        user.addUnknownWords(unknownWordCount);
+        user.addUnknownWords(newUnknownWordCount);
         userRepository.save(user);
     }
 
@@ -144,32 +156,78 @@ public class LearningService {
                 throw new CustomException(ErrorCode.QUIZ_NOT_FOUND);
             }
             quiz.answerQuiz(quizRequest.userAnswer());
-            quizRepository.save(quiz);
         }
     }
 
-    private void saveUnknownWord(User user, Book book, List<CompleteRequest.UnknownWord> unknownWordRequestList) {
+    private SavedWords saveUnknownWord(User user, Book book, List<CompleteRequest.UnknownWord> unknownWordRequestList) {
+        Map<String, CompleteRequest.UnknownWord> requestsByLemma = new LinkedHashMap<>();
         for (CompleteRequest.UnknownWord unknownWordRequest : unknownWordRequestList) {
-            UnknownWord unknownWord = new UnknownWord(
-                    user,
+            requestsByLemma.putIfAbsent(UnknownWord.lemmaOf(unknownWordRequest.word()), unknownWordRequest);
+        }
+        if (requestsByLemma.isEmpty()) {
+            return new SavedWords(List.of(), 0);
+        }
+
+        Map<String, UnknownWord> existingByLemma = new HashMap<>();
+        Set<String> knownLemmas = vocabularyIndex.findKnown(user.getId(), requestsByLemma.keySet());
+        if (!knownLemmas.isEmpty()) {
+            for (UnknownWord existing : unknownWordRepository.findAllByUserIdAndLemmaIn(user.getId(), knownLemmas)) {
+                existingByLemma.put(existing.getLemma(), existing);
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        List<ReviewSchedule> schedules = new ArrayList<>();
+        List<UnknownWord> newWords = new ArrayList<>();
+        List<UnknownWord> relearnedWords = new ArrayList<>();
+
+        requestsByLemma.forEach((lemma, request) -> {
+            UnknownWord existing = existingByLemma.get(lemma);
+            if (existing == null) {
+                newWords.add(new UnknownWord(
+                        user,
+                        book,
+                        request.word(),
+                        request.wordMeaning(),
+                        request.sentence(),
+                        request.sentenceMeaning(),
+                        request.sentenceId(),
+                        request.location(),
+                        request.length(),
+                        today.plusDays(UNKNOWN_WORD_FIRST_REVIEW_DAYS)
+                ));
+                return;
+            }
+
+            existing.relearn(
                     book,
-                    unknownWordRequest.word(),
-                    unknownWordRequest.wordMeaning(),
-                    unknownWordRequest.sentence(),
-                    unknownWordRequest.sentenceMeaning(),
-                    unknownWordRequest.sentenceId(),
-                    unknownWordRequest.location(),
-                    unknownWordRequest.length(),
-                    LocalDate.now().plusDays(UNKNOWN_WORD_FIRST_REVIEW_DAYS)
-                    );
-            unknownWordRepository.save(unknownWord);
+                    request.wordMeaning(),
+                    request.sentence(),
+                    request.sentenceMeaning(),
+                    request.sentenceId(),
+                    request.location(),
+                    request.length()
+            );
+            existing.nextReviewSetting(reviewScheduler, ReviewGrade.AGAIN, today);
+            relearnedWords.add(existing);
+            schedules.add(new ReviewSchedule(existing.getId(), existing.getNextReviewDate()));
+        });
+
+        schedules.addAll(reviewItemJdbcRepository.insertUnknownWords(newWords));
+        reviewItemJdbcRepository.insertOccurrences(relearnedWords);
+        vocabularyIndex.add(user.getId(), newWords.stream().map(UnknownWord::getLemma).toList());
+        if (!relearnedWords.isEmpty()) {
+            completedBookDetailCache.evict(user.getId(), unknownWordRepository.findOccurrenceBookIdsByIdIn(
+                    relearnedWords.stream().map(UnknownWord::getId).toList()));
         }
+        return new SavedWords(schedules, newWords.size());
     }
 
-    private void saveUnknownPhrase(User user, Book book,
-                                   List<CompleteRequest.UnknownPhrase> unknownPhraseRequestList) {
-        if (unknownPhraseRequestList == null) return;
+    private List<ReviewSchedule> saveUnknownPhrase(User user, Book book,
+                                                   List<CompleteRequest.UnknownPhrase> unknownPhraseRequestList) {
+        if (unknownPhraseRequestList == null) return List.of();
 
+        List<UnknownPhrase> unknownPhrases = new ArrayList<>();
         for (CompleteRequest.UnknownPhrase phraseRequest :
                 unknownPhraseRequestList) {
             List<UnknownPhraseWord> words = phraseRequest.words().stream()
@@ -188,8 +246,11 @@ public class LearningService {
                     LocalDate.now().plusDays(UNKNOWN_WORD_FIRST_REVIEW_DAYS)
             );
             unknownPhrase.addWords(words);
-            unknownPhraseRepository.save(unknownPhrase);
+            unknownPhrases.add(unknownPhrase);
         }
+        return reviewItemJdbcRepository.insertUnknownPhrases(unknownPhrases);
     }
 
+    private record SavedWords(List<ReviewSchedule> schedules, int newWordCount) {
+    }
 }
@@ -0,0 +1,17 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.Sentence;
+
+import java.util.List;
+
+public record ParsedStory(
+        String title,
+        List<Sentence> sentences,
+        List<QuizData> quizDataList,
+        int totalWords
+) {
+    public record QuizData(
+            String question,
+            boolean correctAnswer
+    ) {}
+}
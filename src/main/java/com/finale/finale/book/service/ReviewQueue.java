@@ -0,0 +1,156 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.UnknownPhrase;
+import com.finale.finale.book.domain.UnknownWord;
+import com.finale.finale.book.repository.ReviewSchedule;
+import com.finale.finale.book.repository.UnknownPhraseRepository;
+import com.finale.finale.book.repository.UnknownWordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewQueue {
+
+    private static final int REVIEW_LIMIT = 5;
+    private static final String WORD_QUEUE = "w";
+    private static final String PHRASE_QUEUE = "p";
+    private static final String READY_MARKER = "ready";
+
+    private final RedissonClient redissonClient;
+    private final UnknownWordRepository unknownWordRepository;
+    private final UnknownPhraseRepository unknownPhraseRepository;
+
+    @Value("${review.queue.ttl:30d}")
+    private Duration ttl;
+
+    public DueReviews findDue(Long userId, LocalDate today) {
+        try {
+            List<Long> wordIds = findDueIds(userId, WORD_QUEUE, today);
+            List<Long> phraseIds = findDueIds(userId, PHRASE_QUEUE, today);
+            return new DueReviews(wordIds, phraseIds);
+        } catch (Exception e) {
+            log.warn("Failed to read review queue for user {}, falling back to database", userId, e);
+            return findDueFromDatabase(userId, today);
+        }
+    }
+
+    public void schedule(Long userId, List<UnknownWord> words, List<UnknownPhrase> phrases) {
+        scheduleAll(
+                userId,
+                words.stream().map(word -> new ReviewSchedule(word.getId(), word.getNextReviewDate())).toList(),
+                phrases.stream().map(phrase -> new ReviewSchedule(phrase.getId(), phrase.getNextReviewDate())).toList()
+        );
+    }
+
+    public void scheduleAll(Long userId, List<ReviewSchedule> words, List<ReviewSchedule> phrases) {
+        Map<String, Double> wordScores = scores(words);
+        Map<String, Double> phraseScores = scores(phrases);
+        if (wordScores.isEmpty() && phraseScores.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> {
+            addIfReady(getQueue(userId, WORD_QUEUE), wordScores);
+            addIfReady(getQueue(userId, PHRASE_QUEUE), phraseScores);
+        });
+    }
+
+    public void invalidate(Long userId) {
+        afterCommit(() -> {
+            getQueue(userId, WORD_QUEUE).delete();
+            getQueue(userId, PHRASE_QUEUE).delete();
+        });
+    }
+
+    private List<Long> findDueIds(Long userId, String type, LocalDate today) {
+        RScoredSortedSet<String> queue = getQueue(userId, type);
+        if (queue.getScore(READY_MARKER) == null) {
+            rebuild(userId, type, queue);
+        }
+
+        return queue.valueRange(Double.NEGATIVE_INFINITY, true, today.toEpochDay(), true, 0, REVIEW_LIMIT).stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    private void addIfReady(RScoredSortedSet<String> queue, Map<String, Double> scores) {
+        if (!scores.isEmpty() && queue.getScore(READY_MARKER) != null) {
+            queue.addAll(scores);
+            queue.expire(ttl);
+        }
+    }
+
+    private void rebuild(Long userId, String type, RScoredSortedSet<String> queue) {
+        List<ReviewSchedule> schedules = WORD_QUEUE.equals(type)
+                ? unknownWordRepository.findReviewSchedulesByUserId(userId)
+                : unknownPhraseRepository.findReviewSchedulesByUserId(userId);
+
+        Map<String, Double> scores = scores(schedules);
+        scores.put(READY_MARKER, Double.POSITIVE_INFINITY);
+
+        queue.addAll(scores);
+        queue.expire(ttl);
+        log.info("User {} 유저의 복습 큐({})를 재구성했습니다. ({}개)", userId, type, schedules.size());
+    }
+
+    private DueReviews findDueFromDatabase(Long userId, LocalDate today) {
+        List<Long> wordIds = unknownWordRepository
+                .findTop5ByUser_IdAndNextReviewDateLessThanEqualOrderByNextReviewDateAsc(userId, today)
+                .stream().map(UnknownWord::getId).toList();
+        List<Long> phraseIds = unknownPhraseRepository
+                .findTop5ByUser_IdAndNextReviewDateLessThanEqualOrderByNextReviewDateAsc(userId, today)
+                .stream().map(UnknownPhrase::getId).toList();
+
+        return new DueReviews(wordIds, phraseIds);
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable guarded = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("Failed to update review queue", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    private RScoredSortedSet<String> getQueue(Long userId, String type) {
+        return redissonClient.getScoredSortedSet("review-queue:{" + userId + "}:" + type, StringCodec.INSTANCE);
+    }
+
+    private static Map<String, Double> scores(List<ReviewSchedule> schedules) {
+        Map<String, Double> scores = new HashMap<>();
+        schedules.forEach(schedule -> scores.put(String.valueOf(schedule.id()), score(schedule)));
+        return scores;
+    }
+
+    private static double score(ReviewSchedule schedule) {
+        return schedule.nextReviewDate().toEpochDay();
+    }
+}
@@ -0,0 +1,37 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.Phrase;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.book.domain.Word;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record SentenceAnalysis(
+        List<Word> words,
+        List<Phrase> phrases
+) {
+    public static SentenceAnalysis empty() {
+        return new SentenceAnalysis(new ArrayList<>(), new ArrayList<>());
+    }
+
+    public void addAll(SentenceAnalysis other) {
+        words.addAll(other.words());
+        phrases.addAll(other.phrases());
+    }
+
+    public void annotate(List<Sentence> sentences) {
+        Map<Sentence, List<Word>> wordsBySentence = new IdentityHashMap<>();
+        words.forEach(word -> wordsBySentence.computeIfAbsent(word.getSentence(), key -> new ArrayList<>()).add(word));
+
+        Map<Sentence, List<Phrase>> phrasesBySentence = new IdentityHashMap<>();
+        phrases.forEach(phrase -> phrasesBySentence.computeIfAbsent(phrase.getSentence(), key -> new ArrayList<>()).add(phrase));
+
+        sentences.forEach(sentence -> sentence.annotate(
+                wordsBySentence.getOrDefault(sentence, List.of()),
+                phrasesBySentence.getOrDefault(sentence, List.of())
+        ));
+    }
+}
@@ -0,0 +1,36 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.Sentence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SentenceAnalysisPipeline {
+
+    private final WordMeaningService wordMeaningService;
+
+    @Value("${story.analysis.batch-size:20}")
+    private int batchSize;
+
+    @Value("${story.analysis.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${story.analysis.request-timeout:60s}")
+    private Duration requestTimeout;
+
+    public SentenceAnalysisSession open() {
+        return new SentenceAnalysisSession(wordMeaningService, batchSize, maxConcurrency, requestTimeout);
+    }
+
+    public SentenceAnalysis analyze(List<Sentence> sentences) {
+        try (SentenceAnalysisSession session = open()) {
+            sentences.forEach(session::submit);
+            return session.await();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.exception.CustomException;
+import com.finale.finale.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class SentenceAnalysisSession implements AutoCloseable {
+
+    private final WordMeaningService wordMeaningService;
+    private final int batchSize;
+    private final Duration requestTimeout;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<CompletableFuture<SentenceAnalysis>> futures = new ArrayList<>();
+
+    private List<Sentence> buffer = new ArrayList<>();
+
+    SentenceAnalysisSession(WordMeaningService wordMeaningService, int batchSize, int maxConcurrency, Duration requestTimeout) {
+        this.wordMeaningService = wordMeaningService;
+        this.batchSize = batchSize;
+        this.requestTimeout = requestTimeout;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    public void submit(Sentence sentence) {
+        buffer.add(sentence);
+        if (buffer.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    public SentenceAnalysis await() {
+        flush();
+
+        try {
+            SentenceAnalysis result = SentenceAnalysis.empty();
+            for (CompletableFuture<SentenceAnalysis> future : futures) {
+                result.addAll(future.join());
+            }
+            return result;
+        } catch (CompletionException e) {
+            log.error("Sentence analysis failed: {}", e.getCause().toString());
+            throw new CustomException(ErrorCode.AI_SERVICE_ERROR);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<Sentence> chunk = buffer;
+        buffer = new ArrayList<>();
+        futures.add(analyzeAsync(chunk));
+    }
+
+    private CompletableFuture<SentenceAnalysis> analyzeAsync(List<Sentence> chunk) {
+        CompletableFuture<SentenceAnalysis> result = new CompletableFuture<>();
+
+        Future<?> task = executor.submit(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+                return;
+            }
+
+            try {
+                result.complete(wordMeaningService.analyze(chunk));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        });
+
+        result.orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((analysis, e) -> {
+                    if (e != null) {
+                        task.cancel(true);
+                    }
+                });
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.finale.finale.book.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class SentenceTokenizer {
+
+    private SentenceTokenizer() {
+    }
+
+    public static TokenizedSentence tokenize(String text) {
+        List<TokenizedSentence.Token> tokens = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+
+        while (i < length) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            while (i < length) {
+                char c = text.charAt(i);
+                if (Character.isLetterOrDigit(c)) {
+                    i++;
+                } else if (isJoiner(c) && i + 1 < length && Character.isLetterOrDigit(text.charAt(i + 1))) {
+                    i += 2;
+                } else {
+                    break;
+                }
+            }
+            tokens.add(new TokenizedSentence.Token(text.substring(start, i).toLowerCase(Locale.ROOT), start, i));
+        }
+
+        return new TokenizedSentence(tokens);
+    }
+
+    private static boolean isJoiner(char c) {
+        return c == '\'' || c == '’' || c == '-';
+    }
+}
@@ -0,0 +1,108 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.repository.SharedStoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+@Component
+@Slf4j
+public class SharedStoryCache {
+
+    private final SharedStoryRepository sharedStoryRepository;
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${story.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${story.cache.level-bucket-size:100}")
+    private int levelBucketSize;
+
+    @Value("${story.cache.max-entries:20}")
+    private int maxEntries;
+
+    @Value("${story.cache.ttl:7d}")
+    private Duration ttl;
+
+    public SharedStoryCache(SharedStoryRepository sharedStoryRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.sharedStoryRepository = sharedStoryRepository;
+        this.objectMapper = objectMapper;
+        this.hits = Counter.builder("story.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("story.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Optional<CachedStory> find(BookCategory category, int abilityScore, Predicate<String> alreadyRead) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        int levelBucket = levelBucket(abilityScore);
+        try {
+            List<String> titles = new ArrayList<>(sharedStoryRepository.findTitles(category, levelBucket));
+            Collections.shuffle(titles);
+
+            for (String title : titles) {
+                if (alreadyRead.test(title)) {
+                    continue;
+                }
+                CachedStory story = sharedStoryRepository.find(category, levelBucket, title)
+                        .map(this::deserialize)
+                        .orElse(null);
+                if (story != null) {
+                    hits.increment();
+                    return Optional.of(story);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read shared stories for {}:{}", category, levelBucket, e);
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(BookCategory category, int abilityScore, CachedStory story) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            String json = objectMapper.writeValueAsString(story);
+            sharedStoryRepository.push(category, levelBucket(abilityScore), story.title(), json, maxEntries, ttl);
+        } catch (Exception e) {
+            log.warn("Failed to cache story '{}'", story.title(), e);
+        }
+    }
+
+    private int levelBucket(int abilityScore) {
+        int lexile = (int) (abilityScore * 1.4);
+        return lexile / levelBucketSize;
+    }
+
+    private CachedStory deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, CachedStory.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping unreadable cached story", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.finale.finale.book.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryGenerationDispatcher {
+
+    private static final String RETRY_KEY = "story-generation:retry";
+
+    private final StoryGenerationService storyGenerationService;
+    private final RedissonClient redissonClient;
+
+    @Value("${story.generation.retry-batch-size:20}")
+    private int retryBatchSize;
+
+    public void dispatch(Long userId) {
+        try {
+            storyGenerationService.generate(userId);
+        } catch (TaskRejectedException e) {
+            log.warn("Story generation for user {} was rejected, retrying shortly", userId);
+            enqueueRetry(userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${story.generation.retry-interval:30s}")
+    public void retryRejected() {
+        Set<String> userIds;
+        try {
+            userIds = getRetrySet().removeRandom(retryBatchSize);
+        } catch (Exception e) {
+            log.warn("Failed to read story generation retry queue", e);
+            return;
+        }
+
+        userIds.forEach(userId -> dispatch(Long.parseLong(userId)));
+    }
+
+    private void enqueueRetry(Long userId) {
+        try {
+            getRetrySet().add(userId.toString());
+        } catch (Exception e) {
+            log.warn("Failed to enqueue story generation retry for user {}", userId, e);
+        }
+    }
+
+    private RSet<String> getRetrySet() {
+        return redissonClient.getSet(RETRY_KEY, StringCodec.INSTANCE);
+    }
+}
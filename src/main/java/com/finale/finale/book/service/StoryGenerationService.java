@@ -1,23 +1,27 @@
 package com.finale.finale.book.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.finale.finale.auth.domain.User;
 import com.finale.finale.auth.repository.UserRepository;
 import com.finale.finale.book.domain.*;
 import com.finale.finale.book.repository.*;
+import com.finale.finale.config.AsyncConfig;
 import com.finale.finale.exception.CustomException;
 import com.finale.finale.exception.ErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 
 @Service
@@ -29,36 +33,56 @@ public class StoryGenerationService {
     private final UnknownWordRepository unknownWordRepository;
     private final UserRepository userRepository;
     private final BookRepository bookRepository;
-    private final SentenceRepository sentenceRepository;
-    private final QuizRepository quizRepository;
-    private final WordMeaningService wordMeaningService;
+    private final SentenceAnalysisPipeline sentenceAnalysisPipeline;
+    private final StoryResponseParser storyResponseParser;
     private final RedisLockService redisLockService;
     private final UnknownPhraseRepository unknownPhraseRepository;
+    private final SharedStoryCache sharedStoryCache;
+    private final GeneratedBookWriter generatedBookWriter;
+    private final BookService bookService;
+    private final ReviewQueue reviewQueue;
 
-    @Async
+    @Value("${story.generation.streaming:true}")
+    private boolean streaming;
+
+    @Value("${story.generation.stream-timeout:180s}")
+    private Duration streamTimeout;
+
+    @Value("${book.pool.high-watermark:2}")
+    private int poolHighWatermark;
+
+    @Async(AsyncConfig.STORY_GENERATION_EXECUTOR)
     public void generate(Long userId) {
         String lockKey = "book-generation:" + userId;
 
-        if (!redisLockService.tryLock(lockKey, 0, 300)) {
+        if (!redisLockService.tryLock(lockKey, 0, 300L * poolHighWatermark)) {
             log.info("Book generation already in progress for user {}", userId);
             return;
         }
 
         try {
-            GenerationData data = loadDataForGeneration(userId);
-            if (data == null) {
-                return;
-            }
+            for (int i = 0; i < poolHighWatermark; i++) {
+                GenerationData data = loadDataForGeneration(userId);
+                if (data == null) {
+                    return;
+                }
 
-            String response = chatClient.prompt()
-                    .user(data.prompt())
-                    .call()
-                    .content();
+                boolean generic = data.reviewWordIds().isEmpty() && data.reviewPhraseIds().isEmpty();
+                if (generic && saveCachedBook(data)) {
+                    continue;
+                }
 
-            ParsedStoryData parsedData = parseAIResponse(response);
+                GeneratedStory story = streaming
+                        ? generateStreaming(data.prompt())
+                        : generateBlocking(data.prompt());
 
-            saveGeneratedBook(data, parsedData);
+                Book book = generatedBookWriter.write(data, story.parsedData(), story.analysis());
+                bookService.cacheStory(book.getId());
 
+                if (generic) {
+                    sharedStoryCache.put(data.category(), data.abilityScore(), CachedStory.of(story.parsedData(), story.analysis()));
+                }
+            }
         } finally {
             redisLockService.unlock(lockKey);
         }
@@ -69,16 +93,20 @@ public class StoryGenerationService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        if (bookRepository.countByUserAndIsProvisionFalse(user) >= 2) {
+        if (bookRepository.countByUserAndIsProvisionFalse(user) >= poolHighWatermark) {
             log.info("User {} 유저의 미할당 책이 충분합니다.", userId);
             return null;
         }
 
-        List<UnknownWord> unknownWords = unknownWordRepository
-                .findTop5ByUser_IdAndNextReviewDateLessThanEqualOrderByNextReviewDateAsc(userId, LocalDate.now());
+        DueReviews due = reviewQueue.findDue(userId, LocalDate.now());
 
-        List<UnknownPhrase> unknownPhrases = unknownPhraseRepository
-                .findTop5ByUser_IdAndNextReviewDateLessThanEqualOrderByNextReviewDateAsc(userId, LocalDate.now());
+        List<UnknownWord> unknownWords = unknownWordRepository.findAllById(due.wordIds()).stream()
+                .sorted(Comparator.comparing(UnknownWord::getNextReviewDate))
+                .toList();
+
+        List<UnknownPhrase> unknownPhrases = unknownPhraseRepository.findAllById(due.phraseIds()).stream()
+                .sorted(Comparator.comparing(UnknownPhrase::getNextReviewDate))
+                .toList();
 
         BookCategory category = BookCategory.random();
         String prompt = createPrompt(unknownWords, unknownPhrases, user, category);
@@ -93,47 +121,55 @@ public class StoryGenerationService {
         );
     }
 
-    private ParsedStoryData parseAIResponse(String response) {
-        String title = extractTitle(response);
-        List<Sentence> sentences = parseResponse(response);
-        List<QuizData> quizDataList = parseQuizData(response);
-        int totalWords = calculateTotalWords(sentences);
-
-        return new ParsedStoryData(title, sentences, quizDataList, totalWords);
-    }
-
-    @Transactional
-    protected void saveGeneratedBook(GenerationData data, ParsedStoryData parsedData) {
-        User user = userRepository.findById(data.userId())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        Book book = new Book(
-                user,
-                parsedData.title(),
+    private boolean saveCachedBook(GenerationData data) {
+        Optional<CachedStory> cached = sharedStoryCache.find(
                 data.category(),
                 data.abilityScore(),
-                parsedData.totalWords()
+                title -> bookRepository.existsByUser_IdAndTitle(data.userId(), title)
         );
+        if (cached.isEmpty()) {
+            return false;
+        }
 
-        List<UnknownWord> reviewWords = unknownWordRepository.findAllById(data.reviewWordIds());
-        List<UnknownPhrase> reviewPhrases = unknownPhraseRepository.findAllById(data.reviewPhraseIds());
+        ParsedStory parsedData = cached.get().toParsedStory();
+        Book book = generatedBookWriter.write(data, parsedData, cached.get().toAnalysis(parsedData.sentences()));
+        bookService.cacheStory(book.getId());
+        log.info("User {} 유저에게 캐시된 스토리를 제공했습니다.", data.userId());
+        return true;
+    }
 
-        reviewWords.forEach(UnknownWord::nextReviewSetting);
-        reviewPhrases.forEach(UnknownPhrase::nextReviewSetting);
+    private GeneratedStory generateStreaming(String prompt) {
+        try (SentenceAnalysisSession session = sentenceAnalysisPipeline.open();
+             StoryStreamParser parser = storyResponseParser.openStream(session::submit)) {
 
-        book.addReviewWord(reviewWords);
-        book.addReviewPhrase(reviewPhrases);
-        bookRepository.save(book);
+            long deadline = System.nanoTime() + streamTimeout.toNanos();
+            Flux<String> chunks = chatClient.prompt()
+                    .user(prompt)
+                    .stream()
+                    .content()
+                    .timeout(Mono.delay(streamTimeout), chunk -> Mono.delay(remainingUntil(deadline)));
 
-        List<Quiz> quizzes = parsedData.quizDataList().stream()
-                .map(qd -> new Quiz(book, qd.question(), qd.correctAnswer()))
-                .toList();
-        quizRepository.saveAll(quizzes);
+            for (String chunk : chunks.toIterable()) {
+                parser.feed(chunk);
+            }
 
-        parsedData.sentences().forEach(sentence -> sentence.updateBook(book));
-        sentenceRepository.saveAll(parsedData.sentences());
+            ParsedStory parsedData = parser.finish();
+            return new GeneratedStory(parsedData, session.await());
+        }
+    }
 
-        parsedData.sentences().forEach(wordMeaningService::extractWordMeanings);
+    private static Duration remainingUntil(long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    private GeneratedStory generateBlocking(String prompt) {
+        String response = chatClient.prompt()
+                .user(prompt)
+                .call()
+                .content();
+
+        ParsedStory parsedData = storyResponseParser.parse(response);
+        return new GeneratedStory(parsedData, sentenceAnalysisPipeline.analyze(parsedData.sentences()));
     }
 
     private String createPrompt(List<UnknownWord> unknownWords, List<UnknownPhrase> unknownPhrases, User user, BookCategory category) {
@@ -212,122 +248,8 @@ public class StoryGenerationService {
         );
     }
 
-    private List<Sentence> parseResponse(String response) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            String jsonResponse = extractJsonFromResponse(response);
-
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-            JsonNode sentencesNode = rootNode.get("sentences");
-
-            List<Sentence> sentences = new ArrayList<>();
-
-            if (sentencesNode != null && sentencesNode.isArray()) {
-                for (JsonNode sentenceNode : sentencesNode) {
-                    Sentence sentence = new Sentence(
-                            null,
-                            sentenceNode.get("paragraph_number").asInt(),
-                            sentenceNode.get("sentence_order").asInt(),
-                            sentenceNode.get("english_text").asText(),
-                            sentenceNode.get("korean_text").asText()
-                    );
-                    sentences.add(sentence);
-                }
-            }
-            return sentences;
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
-        }
-    }
-
-    private String extractTitle(String response) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonResponse = extractJsonFromResponse(response);
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-
-            JsonNode titleNode = rootNode.get("title");
-            if (titleNode != null) {
-                return titleNode.asText();
-            }
-
-            return "Untitled Story";
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
-        }
-    }
-
-    private String extractJsonFromResponse(String response) {
-        String cleaned = response.trim();
-
-        if (cleaned.startsWith("```json")) {
-            cleaned = cleaned.substring(7);
-        } else if (cleaned.startsWith("```")) {
-            cleaned = cleaned.substring(3);
-        }
-
-        if (cleaned.endsWith("```")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 3);
-        }
-
-        return cleaned.trim();
-    }
-
-    private List<QuizData> parseQuizData(String response) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonResponse = extractJsonFromResponse(response);
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-            JsonNode quizzesNode = rootNode.get("quizzes");
-
-            List<QuizData> quizDataList = new ArrayList<>();
-
-            if (quizzesNode != null && quizzesNode.isArray()) {
-                for (JsonNode quizNode : quizzesNode) {
-                    QuizData quizData = new QuizData(
-                            quizNode.get("question").asText(),
-                            quizNode.get("correct_answer").asBoolean()
-                    );
-                    quizDataList.add(quizData);
-                }
-            }
-            return quizDataList;
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
-        }
-    }
-
-    private int calculateTotalWords(List<Sentence> sentences) {
-        return sentences.stream()
-                .mapToInt(sentence -> {
-                    String englishText = sentence.getEnglishText();
-                    if (englishText == null || englishText.isBlank()) {
-                        return 0;
-                    }
-                    return englishText.trim().split("\\s+").length;
-                })
-                .sum();
-    }
-
-    private record GenerationData(
-            Long userId,
-            Integer abilityScore,
-            BookCategory category,
-            String prompt,
-            List<Long> reviewWordIds,
-            List<Long> reviewPhraseIds
-    ) {}
-
-    private record ParsedStoryData(
-            String title,
-            List<Sentence> sentences,
-            List<QuizData> quizDataList,
-            int totalWords
-    ) {}
-
-    private record QuizData(
-            String question,
-            boolean correctAnswer
+    private record GeneratedStory(
+            ParsedStory parsedData,
+            SentenceAnalysis analysis
     ) {}
 }
@@ -0,0 +1,163 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.exception.CustomException;
+import com.finale.finale.exception.ErrorCode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+class StoryJsonReader {
+
+    private static final String DEFAULT_TITLE = "Untitled Story";
+
+    private static final int ROOT_DEPTH = 1;
+    private static final int SECTION_DEPTH = 2;
+    private static final int ITEM_DEPTH = 3;
+
+    private final Consumer<Sentence> sentenceListener;
+
+    private final List<Sentence> sentences = new ArrayList<>();
+    private final List<ParsedStory.QuizData> quizzes = new ArrayList<>();
+    private String title;
+    private int totalWords;
+
+    private int depth;
+    private boolean completed;
+    private String fieldName;
+    private String section;
+
+    private Integer paragraphNumber;
+    private Integer sentenceOrder;
+    private String englishText;
+    private String koreanText;
+    private String question;
+    private Boolean correctAnswer;
+
+    StoryJsonReader(Consumer<Sentence> sentenceListener) {
+        this.sentenceListener = sentenceListener;
+    }
+
+    boolean read(JsonParser parser) throws IOException {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token, parser);
+        }
+        return completed;
+    }
+
+    ParsedStory result() {
+        if (!completed) {
+            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+        }
+        return new ParsedStory(
+                title != null ? title : DEFAULT_TITLE,
+                sentences,
+                quizzes,
+                totalWords
+        );
+    }
+
+    private void handle(JsonToken token, JsonParser parser) throws IOException {
+        switch (token) {
+            case START_OBJECT, START_ARRAY -> startContainer(token);
+            case END_OBJECT, END_ARRAY -> endContainer(token);
+            case FIELD_NAME -> fieldName = parser.currentName();
+            default -> handleValue(parser);
+        }
+    }
+
+    private void startContainer(JsonToken token) {
+        depth++;
+
+        if (depth == ROOT_DEPTH && token != JsonToken.START_OBJECT) {
+            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+        }
+        if (depth == SECTION_DEPTH) {
+            boolean knownSection = "sentences".equals(fieldName) || "quizzes".equals(fieldName);
+            section = knownSection && token == JsonToken.START_ARRAY ? fieldName : null;
+        }
+        if (depth == ITEM_DEPTH && section != null && token == JsonToken.START_OBJECT) {
+            clearItem();
+        }
+    }
+
+    private void endContainer(JsonToken token) {
+        if (depth == ITEM_DEPTH && section != null && token == JsonToken.END_OBJECT) {
+            completeItem();
+        }
+        if (depth == SECTION_DEPTH) {
+            section = null;
+        }
+
+        depth--;
+        if (depth == 0) {
+            completed = true;
+        }
+    }
+
+    private void handleValue(JsonParser parser) throws IOException {
+        if (depth == ROOT_DEPTH && "title".equals(fieldName)) {
+            title = parser.getValueAsString();
+            return;
+        }
+        if (depth != ITEM_DEPTH || section == null || fieldName == null) {
+            return;
+        }
+
+        switch (fieldName) {
+            case "paragraph_number" -> paragraphNumber = parser.getValueAsInt();
+            case "sentence_order" -> sentenceOrder = parser.getValueAsInt();
+            case "english_text" -> englishText = parser.getValueAsString();
+            case "korean_text" -> koreanText = parser.getValueAsString();
+            case "question" -> question = parser.getValueAsString();
+            case "correct_answer" -> correctAnswer = parser.getValueAsBoolean();
+            default -> {
+            }
+        }
+    }
+
+    private void completeItem() {
+        if ("sentences".equals(section)) {
+            if (paragraphNumber == null || sentenceOrder == null || englishText == null || koreanText == null) {
+                throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+            }
+            Sentence sentence = new Sentence(null, paragraphNumber, sentenceOrder, englishText, koreanText);
+            sentences.add(sentence);
+            totalWords += countWords(englishText);
+            sentenceListener.accept(sentence);
+        } else {
+            if (question == null || correctAnswer == null) {
+                throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+            }
+            quizzes.add(new ParsedStory.QuizData(question, correctAnswer));
+        }
+    }
+
+    private void clearItem() {
+        paragraphNumber = null;
+        sentenceOrder = null;
+        englishText = null;
+        koreanText = null;
+        question = null;
+        correctAnswer = null;
+    }
+
+    private int countWords(String text) {
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                inWord = false;
+            } else if (!inWord) {
+                inWord = true;
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,59 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finale.finale.book.dto.response.StoryGenerationResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryPayloadCache {
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${story.payload-cache.ttl:3d}")
+    private Duration ttl;
+
+    public Optional<StoryGenerationResponse> get(Long bookId) {
+        try {
+            String json = getBucket(bookId).get();
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, StoryGenerationResponse.class));
+        } catch (Exception e) {
+            log.warn("Failed to read cached story payload for book {}", bookId, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(StoryGenerationResponse response) {
+        try {
+            getBucket(response.bookId()).set(objectMapper.writeValueAsString(response), ttl);
+        } catch (Exception e) {
+            log.warn("Failed to cache story payload for book {}", response.bookId(), e);
+        }
+    }
+
+    public void evict(Long bookId) {
+        try {
+            getBucket(bookId).delete();
+        } catch (Exception e) {
+            log.warn("Failed to evict story payload for book {}", bookId, e);
+        }
+    }
+
+    private RBucket<String> getBucket(Long bookId) {
+        return redissonClient.getBucket("story-payload:" + bookId, StringCodec.INSTANCE);
+    }
+}
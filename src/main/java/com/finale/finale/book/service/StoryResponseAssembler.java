@@ -25,7 +25,7 @@ import java.util.List;
 public class StoryResponseAssembler {
 
     public StoryGenerationResponse toResponse(Book book, StoryData data) {
-        List<SentenceResponse> sentences = buildSentenceResponses(data.sentences(), data);
+        List<SentenceResponse> sentences = buildSentenceResponses(data.sentences());
         List<QuizResponse> quizzes = buildQuizResponses(data.quizzes());
         List<UnknownWordResponse> unknownWords = buildUnknownWordResponses(data.unknownWords());
         List<UnknownPhraseResponse> unknownPhrases = buildUnknownPhraseResponses(data.unknownPhrases());
@@ -44,18 +44,14 @@ public class StoryResponseAssembler {
         );
     }
 
-    private List<SentenceResponse> buildSentenceResponses(List<Sentence> sentences, StoryData data) {
+    private List<SentenceResponse> buildSentenceResponses(List<Sentence> sentences) {
         return sentences.stream()
                 .map(sentence -> {
-                    List<WordResponse> words = data.wordsBySentence()
-                            .getOrDefault(sentence.getId(), List.of())
-                            .stream()
+                    List<WordResponse> words = sentence.getAnnotations().words().stream()
                             .map(this::toWordResponse)
                             .toList();
 
-                    List<PhraseResponse> phrases = data.phrasesBySentence()
-                            .getOrDefault(sentence.getId(), List.of())
-                            .stream()
+                    List<PhraseResponse> phrases = sentence.getAnnotations().phrases().stream()
                             .map(this::toPhraseResponse)
                             .toList();
 
@@ -0,0 +1,58 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.exception.CustomException;
+import com.finale.finale.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class StoryResponseParser {
+
+    private final ObjectMapper objectMapper;
+
+    public ParsedStory parse(String response) {
+        if (response == null) {
+            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+        }
+
+        StoryJsonReader reader = new StoryJsonReader(sentence -> {});
+        try (JsonParser parser = objectMapper.getFactory().createParser(extractJsonFromResponse(response))) {
+            reader.read(parser);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+        }
+        return reader.result();
+    }
+
+    public StoryStreamParser openStream(Consumer<Sentence> sentenceListener) {
+        try {
+            JsonParser parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            return new StoryStreamParser(parser, new StoryJsonReader(sentenceListener));
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+        }
+    }
+
+    private String extractJsonFromResponse(String response) {
+        String cleaned = response.trim();
+
+        if (cleaned.startsWith("```json")) {
+            cleaned = cleaned.substring(7);
+        } else if (cleaned.startsWith("```")) {
+            cleaned = cleaned.substring(3);
+        }
+
+        if (cleaned.endsWith("```")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 3);
+        }
+
+        return cleaned.trim();
+    }
+}
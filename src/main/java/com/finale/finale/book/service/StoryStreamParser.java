@@ -0,0 +1,69 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.finale.finale.exception.CustomException;
+import com.finale.finale.exception.ErrorCode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class StoryStreamParser implements AutoCloseable {
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final StoryJsonReader reader;
+
+    private boolean started;
+    private boolean completed;
+
+    StoryStreamParser(JsonParser parser, StoryJsonReader reader) {
+        this.parser = parser;
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.reader = reader;
+    }
+
+    public void feed(String chunk) {
+        if (completed || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+
+        String text = chunk;
+        if (!started) {
+            int objectStart = text.indexOf('{');
+            if (objectStart < 0) {
+                return;
+            }
+            text = text.substring(objectStart);
+            started = true;
+        }
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            completed = reader.read(parser);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+        }
+    }
+
+    public ParsedStory finish() {
+        if (!completed) {
+            feeder.endOfInput();
+            try {
+                completed = reader.read(parser);
+            } catch (IOException e) {
+                throw new CustomException(ErrorCode.AI_RESPONSE_INVALID);
+            }
+        }
+        return reader.result();
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
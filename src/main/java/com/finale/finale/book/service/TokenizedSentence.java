@@ -0,0 +1,81 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.UnknownWord;
+
+import java.util.List;
+import java.util.Optional;
+
+public class TokenizedSentence {
+
+    private final List<Token> tokens;
+    private String[] lemmas;
+
+    TokenizedSentence(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    public List<Token> tokens() {
+        return tokens;
+    }
+
+    public Optional<TokenSpan> find(String text, int fromToken) {
+        List<String> query = SentenceTokenizer.tokenize(text).tokens().stream().map(Token::text).toList();
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int from = Math.min(Math.max(fromToken, 0), tokens.size());
+        int index = scan(query, from, false);
+        if (index < 0) {
+            List<String> queryLemmas = query.stream().map(UnknownWord::lemmaOf).toList();
+            index = scan(queryLemmas, from, true);
+        }
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        int last = index + query.size() - 1;
+        return Optional.of(new TokenSpan(index, last + 1, tokens.get(index).start(), tokens.get(last).end()));
+    }
+
+    private int scan(List<String> query, int from, boolean byLemma) {
+        int lastStart = tokens.size() - query.size();
+        for (int i = from; i <= lastStart; i++) {
+            if (matches(query, i, byLemma)) {
+                return i;
+            }
+        }
+        for (int i = 0; i < Math.min(from, lastStart + 1); i++) {
+            if (matches(query, i, byLemma)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(List<String> query, int at, boolean byLemma) {
+        for (int j = 0; j < query.size(); j++) {
+            String actual = byLemma ? lemmaAt(at + j) : tokens.get(at + j).text();
+            if (!actual.equals(query.get(j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String lemmaAt(int index) {
+        if (lemmas == null) {
+            lemmas = new String[tokens.size()];
+        }
+        if (lemmas[index] == null) {
+            lemmas[index] = UnknownWord.lemmaOf(tokens.get(index).text());
+        }
+        return lemmas[index];
+    }
+
+    public record Token(String text, int start, int end) {
+    }
+
+    public record TokenSpan(int firstToken, int nextToken, int start, int end) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.repository.UnknownWordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RSet;
+import org.redisson.api.RSetAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VocabularyIndex {
+
+    private static final String READY_MARKER = ":ready";
+
+    private final RedissonClient redissonClient;
+    private final UnknownWordRepository unknownWordRepository;
+
+    @Value("${vocabulary.index.ttl:30d}")
+    private Duration ttl;
+
+    public Set<String> findKnown(Long userId, Collection<String> lemmas) {
+        if (lemmas.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> candidates = new ArrayList<>(lemmas);
+        try {
+            RBatch batch = redissonClient.createBatch();
+            RSetAsync<String> set = batch.getSet(key(userId), StringCodec.INSTANCE);
+            set.containsAsync(READY_MARKER);
+            candidates.forEach(set::containsAsync);
+            List<?> responses = batch.execute().getResponses();
+
+            if (!Boolean.TRUE.equals(responses.get(0))) {
+                return rebuild(userId, candidates);
+            }
+
+            Set<String> known = new HashSet<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                if (Boolean.TRUE.equals(responses.get(i + 1))) {
+                    known.add(candidates.get(i));
+                }
+            }
+            return known;
+        } catch (Exception e) {
+            log.warn("Failed to read vocabulary index for user {}, falling back to database", userId, e);
+            return new HashSet<>(candidates);
+        }
+    }
+
+    public void add(Long userId, Collection<String> lemmas) {
+        if (lemmas.isEmpty()) {
+            return;
+        }
+
+        List<String> members = List.copyOf(lemmas);
+        afterCommit(() -> {
+            try {
+                RSet<String> set = getSet(userId);
+                set.addAll(members);
+                set.expire(ttl);
+            } catch (Exception e) {
+                log.warn("Failed to update vocabulary index for user {}", userId, e);
+                invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidate(Long userId) {
+        try {
+            getSet(userId).delete();
+        } catch (Exception e) {
+            log.warn("Failed to invalidate vocabulary index for user {}", userId, e);
+        }
+    }
+
+    private Set<String> rebuild(Long userId, List<String> candidates) {
+        Set<String> lemmas = new HashSet<>(unknownWordRepository.findLemmasByUserId(userId));
+
+        List<String> members = new ArrayList<>(lemmas);
+        members.add(READY_MARKER);
+        RSet<String> set = getSet(userId);
+        set.addAll(members);
+        set.expire(ttl);
+        log.info("User {} 유저의 단어장 인덱스를 재구성했습니다. ({}개)", userId, lemmas.size());
+
+        Set<String> known = new HashSet<>(candidates);
+        known.retainAll(lemmas);
+        return known;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private RSet<String> getSet(Long userId) {
+        return redissonClient.getSet(key(userId), StringCodec.INSTANCE);
+    }
+
+    private static String key(Long userId) {
+        return "vocabulary:" + userId;
+    }
+}
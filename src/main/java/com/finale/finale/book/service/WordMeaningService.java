@@ -7,16 +7,16 @@ import com.finale.finale.book.domain.Phrase;
 import com.finale.finale.book.domain.PhraseWord;
 import com.finale.finale.book.domain.Sentence;
 import com.finale.finale.book.domain.Word;
-import com.finale.finale.book.repository.PhraseRepository;
-import com.finale.finale.book.repository.WordRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.stereotype.Service;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +25,6 @@ public class WordMeaningService {
 
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final WordRepository wordRepository;
-    private final PhraseRepository phraseRepository;
 
     private static final String ANALYSIS_PROMPT = """
               You are an expert linguist and natural language processing researcher.
@@ -73,8 +71,105 @@ public class WordMeaningService {
               Sentence: "{sentence}"
               """;
 
-    @Transactional
-    public void extractWordMeanings(Sentence sentence) {
+    private static final String BATCH_ANALYSIS_PROMPT = """
+              You are an expert linguist and natural language processing researcher.
+              Your task is to precisely analyze each of the given English sentences,
+              extracting both the meaning of each word and any multi-word expressions (phrases)
+              that act as single semantic units in context.
+              Return the result strictly in JSON format, without any explanations or extra text.
+
+              ---
+
+              Output Format (JSON object):
+              {
+                "sentences": [
+                  {
+                    "id": 1,
+                    "words": [
+                      {
+                        "word": "word",
+                        "meaning": "Korean meaning"
+                      },
+                      ...
+                    ],
+                    "phrases": [
+                      {
+                        "expression": ["word1", "word2", ...],
+                        "meaning": "Korean meaning"
+                      },
+                      ...
+                    ]
+                  },
+                  ...
+                ]
+              }
+
+              ---
+
+              Rules:
+              - Return exactly one entry per input sentence, using the same "id" as the input.
+              - Analyze each sentence independently.
+              - Each word must provide its basic meaning in Korean.
+              - Identify multi-word expressions (phrasal verbs, idioms, etc.) that form a single semantic unit.
+              - ⚠️ CRITICAL: In "expression", each element MUST be a separate word (no spaces).
+                ❌ Wrong: ["spoke of"]
+                ✅ Correct: ["spoke", "of"]
+              - Even if phrase components are not adjacent, include them if they function together.
+                (e.g., "looked the information up" → ["looked", "up"])
+              - If a sentence has no phrases, return `"phrases": []` for it.
+              - Output must be **only valid JSON**, no additional commentary.
+
+              ---
+
+              Sentences:
+              {sentences}
+              """;
+
+    public SentenceAnalysis analyze(List<Sentence> chunk) {
+        SentenceAnalysis analysis = SentenceAnalysis.empty();
+        analyzeChunk(chunk, analysis);
+        return analysis;
+    }
+
+    private void analyzeChunk(List<Sentence> chunk, SentenceAnalysis analysis) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        if (chunk.size() == 1) {
+            analyzeSingle(chunk.get(0), analysis);
+            return;
+        }
+
+        Map<Integer, JsonNode> results = requestBatchAnalysis(chunk);
+
+        List<Sentence> missing = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            JsonNode result = results.get(i + 1);
+            if (result == null) {
+                missing.add(chunk.get(i));
+                continue;
+            }
+            collectAnalysis(chunk.get(i), result, analysis);
+        }
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        log.warn("Batch analysis returned {} of {} sentences, retrying the rest in smaller chunks",
+                chunk.size() - missing.size(), chunk.size());
+
+        if (missing.size() < chunk.size()) {
+            analyzeChunk(missing, analysis);
+            return;
+        }
+
+        int half = missing.size() / 2;
+        analyzeChunk(missing.subList(0, half), analysis);
+        analyzeChunk(missing.subList(half, missing.size()), analysis);
+    }
+
+    private void analyzeSingle(Sentence sentence, SentenceAnalysis analysis) {
         String prompt = ANALYSIS_PROMPT.replace("{sentence}", sentence.getEnglishText());
 
         String jsonResponse = chatClient.prompt()
@@ -84,56 +179,125 @@ public class WordMeaningService {
 
         try {
             JsonNode root = objectMapper.readTree(jsonResponse);
+            collectAnalysis(sentence, root, analysis);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to parse word meaning response", e);
+        }
+    }
+
+    private Map<Integer, JsonNode> requestBatchAnalysis(List<Sentence> chunk) {
+        String prompt = BATCH_ANALYSIS_PROMPT.replace("{sentences}", formatSentences(chunk));
+
+        String jsonResponse = chatClient.prompt()
+                .user(prompt)
+                .call()
+                .content();
 
-            JsonNode wordsNode = root.get("words");
-            if (wordsNode != null && wordsNode.isArray()) {
-                for (JsonNode wordNode : wordsNode) {
-                    String word = wordNode.get("word").asText();
-                    String meaning = wordNode.get("meaning").asText();
+        Map<Integer, JsonNode> results = new HashMap<>();
+        try {
+            JsonNode sentencesNode = objectMapper.readTree(jsonResponse).get("sentences");
+            if (sentencesNode == null || !sentencesNode.isArray()) {
+                return results;
+            }
 
-                    Integer location = findWordLocation(sentence.getEnglishText(), word, 0);
-                    Word wordEntity = new Word(sentence, word, meaning, location);
-                    wordRepository.save(wordEntity);
+            for (JsonNode sentenceNode : sentencesNode) {
+                JsonNode idNode = sentenceNode.get("id");
+                if (idNode == null || !idNode.canConvertToInt() || !isValidAnalysis(sentenceNode)) {
+                    continue;
                 }
+                results.putIfAbsent(idNode.asInt(), sentenceNode);
             }
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to parse batch word meaning response: {}", e.getMessage());
+        }
+        return results;
+    }
 
-            JsonNode phrasesNode = root.get("phrases");
-            if (phrasesNode != null && phrasesNode.isArray()) {
-                for (JsonNode phraseNode : phrasesNode) {
-                    String meaning = phraseNode.get("meaning").asText();
-                    Phrase phrase = new Phrase(sentence, meaning);
+    private String formatSentences(List<Sentence> chunk) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < chunk.size(); i++) {
+            builder.append(String.format("%d. \"%s\"\n", i + 1, chunk.get(i).getEnglishText()));
+        }
+        return builder.toString().trim();
+    }
 
-                    JsonNode expressionNode = phraseNode.get("expression");
-                    int searchFrom = 0;
+    private boolean isValidAnalysis(JsonNode node) {
+        JsonNode wordsNode = node.get("words");
+        if (wordsNode == null || !wordsNode.isArray()) {
+            return false;
+        }
+        for (JsonNode wordNode : wordsNode) {
+            if (!wordNode.hasNonNull("word") || !wordNode.hasNonNull("meaning")) {
+                return false;
+            }
+        }
 
-                    for (int i = 0; i < expressionNode.size(); i++) {
-                        String wordText = expressionNode.get(i).asText();
-                        Integer location = findWordLocation(sentence.getEnglishText(), wordText, searchFrom);
-                        searchFrom = location + wordText.length();
+        JsonNode phrasesNode = node.get("phrases");
+        if (phrasesNode == null) {
+            return true;
+        }
+        if (!phrasesNode.isArray()) {
+            return false;
+        }
+        for (JsonNode phraseNode : phrasesNode) {
+            JsonNode expressionNode = phraseNode.get("expression");
+            if (!phraseNode.hasNonNull("meaning") || expressionNode == null || !expressionNode.isArray()) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                        PhraseWord phraseWord = new PhraseWord(phrase, wordText, location);
-                        phrase.addPhraseWord(phraseWord);
-                    }
+    private void collectAnalysis(Sentence sentence, JsonNode root, SentenceAnalysis analysis) {
+        TokenizedSentence tokenized = SentenceTokenizer.tokenize(sentence.getEnglishText());
+
+        JsonNode wordsNode = root.get("words");
+        if (wordsNode != null && wordsNode.isArray()) {
+            int nextToken = 0;
+            for (JsonNode wordNode : wordsNode) {
+                String word = wordNode.get("word").asText();
+                String meaning = wordNode.get("meaning").asText();
 
-                    phraseRepository.save(phrase);
+                Optional<TokenizedSentence.TokenSpan> span = tokenized.find(word, nextToken);
+                if (span.isPresent()) {
+                    nextToken = span.get().nextToken();
                 }
+                Integer location = span.map(TokenizedSentence.TokenSpan::start)
+                        .orElseGet(() -> missingLocation(word, sentence));
+                analysis.words().add(new Word(sentence, word, meaning, location));
             }
-
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to parse word meaning response", e);
         }
-    }
 
-    private Integer findWordLocation(String sentence, String word, int fromIndex) {
-        String pattern = "\\b" + Pattern.quote(word) + "\\b";
-        Pattern p = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
-        Matcher m = p.matcher(sentence);
+        JsonNode phrasesNode = root.get("phrases");
+        if (phrasesNode != null && phrasesNode.isArray()) {
+            for (JsonNode phraseNode : phrasesNode) {
+                String meaning = phraseNode.get("meaning").asText();
+                Phrase phrase = new Phrase(sentence, meaning);
+
+                JsonNode expressionNode = phraseNode.get("expression");
+                int nextToken = 0;
+
+                for (int i = 0; i < expressionNode.size(); i++) {
+                    String wordText = expressionNode.get(i).asText();
+                    Optional<TokenizedSentence.TokenSpan> span = tokenized.find(wordText, nextToken);
+                    if (span.isPresent()) {
+                        nextToken = span.get().nextToken();
+                    }
+
+                    Integer location = span.map(TokenizedSentence.TokenSpan::start)
+                            .orElseGet(() -> missingLocation(wordText, sentence));
+
+                    PhraseWord phraseWord = new PhraseWord(phrase, wordText, location);
+                    phrase.addPhraseWord(phraseWord);
+                }
 
-        if (m.find(fromIndex)) {
-            return m.start();
+                analysis.phrases().add(phrase);
+            }
         }
+    }
 
-        log.warn("Word '{}' not found in sentence: '{}'", word, sentence);
+    private Integer missingLocation(String word, Sentence sentence) {
+        log.warn("Word '{}' not found in sentence: '{}'", word, sentence.getEnglishText());
         return 0;
     }
 }
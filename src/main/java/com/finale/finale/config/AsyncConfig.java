@@ -1,9 +1,76 @@
 package com.finale.finale.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+@Slf4j
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
+
+    public static final String STORY_GENERATION_EXECUTOR = "storyGenerationExecutor";
+    public static final String ACCOUNT_PURGE_EXECUTOR = "accountPurgeExecutor";
+
+    private static final String METRIC_PREFIX = "story.generation.executor";
+
+    @Bean(name = STORY_GENERATION_EXECUTOR)
+    public ThreadPoolTaskExecutor storyGenerationExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${story.generation.executor.core-size:4}") int coreSize,
+            @Value("${story.generation.executor.max-size:8}") int maxSize,
+            @Value("${story.generation.executor.queue-capacity:100}") int queueCapacity,
+            @Value("${story.generation.executor.virtual-threads:false}") boolean virtualThreads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("story-generation-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("story-generation-", 0).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        Counter rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Story generation tasks rejected because the queue was full")
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("Story generation queue is full ({} queued), rejecting task", pool.getQueue().size());
+            throw new TaskRejectedException("Story generation queue is full");
+        });
+
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Story generation tasks currently running")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Story generation tasks waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    @Bean(name = ACCOUNT_PURGE_EXECUTOR)
+    public ThreadPoolTaskExecutor accountPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("account-purge-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
 }
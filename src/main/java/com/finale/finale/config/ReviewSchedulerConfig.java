@@ -0,0 +1,29 @@
+package com.finale.finale.config;
+
+import com.finale.finale.book.domain.FixedIntervalReviewScheduler;
+import com.finale.finale.book.domain.FsrsReviewScheduler;
+import com.finale.finale.book.domain.ReviewScheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReviewSchedulerConfig {
+
+    @Value("${review.scheduler.type:fixed}")
+    private String type;
+
+    @Value("${review.scheduler.fsrs.request-retention:0.9}")
+    private double requestRetention;
+
+    @Value("${review.scheduler.fsrs.maximum-interval:36500}")
+    private int maximumInterval;
+
+    @Bean
+    public ReviewScheduler reviewScheduler() {
+        if (type.equals("fsrs")) {
+            return new FsrsReviewScheduler(requestRetention, maximumInterval);
+        }
+        return FixedIntervalReviewScheduler.INSTANCE;
+    }
+}
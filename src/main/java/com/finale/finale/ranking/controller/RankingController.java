@@ -2,6 +2,7 @@ package com.finale.finale.ranking.controller;
 
 import com.finale.finale.ranking.dto.request.RankingResultRequest;
 import com.finale.finale.ranking.dto.response.MyRankingResponse;
+import com.finale.finale.ranking.dto.response.RankingPageResponse;
 import com.finale.finale.ranking.dto.response.RankingResponse;
 import com.finale.finale.ranking.dto.response.RankingResultResponse;
 import com.finale.finale.ranking.service.RankingService;
@@ -23,6 +24,16 @@ public class RankingController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/around")
+    public ResponseEntity<RankingPageResponse> getRankingsAroundMe(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        RankingPageResponse response = rankingService.getRankingsAroundMe(userId, page, size);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/result")
     public ResponseEntity<RankingResultResponse> submitResult(
             @AuthenticationPrincipal Long userId,
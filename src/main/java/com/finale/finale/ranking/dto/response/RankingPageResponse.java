@@ -0,0 +1,14 @@
+package com.finale.finale.ranking.dto.response;
+
+import java.util.List;
+
+public record RankingPageResponse(
+        Integer myRanking,
+        Integer totalParticipants,
+        int fromRank,
+        int toRank,
+        boolean hasPrevious,
+        boolean hasNext,
+        List<RankingResponse.RankingEntry> rankings
+) {
+}
@@ -0,0 +1,62 @@
+package com.finale.finale.ranking.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyRankingMigration implements ApplicationRunner {
+
+    private final RedissonClient redissonClient;
+    private final RankingRepository rankingRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+        for (LocalDate week = weekStart.minusWeeks(1); !week.isAfter(weekStart); week = week.plusWeeks(1)) {
+            try {
+                migrate(week);
+            } catch (Exception e) {
+                log.warn("Failed to migrate legacy ranking of week {}", week, e);
+            }
+        }
+    }
+
+    private void migrate(LocalDate weekStart) {
+        RScoredSortedSet<String> legacyScores = redissonClient.getScoredSortedSet("ranking:score:" + weekStart);
+        RMap<String, String> legacyUsers = redissonClient.getMap("ranking:user:" + weekStart);
+        if (!legacyScores.isExists()) {
+            return;
+        }
+
+        Collection<ScoredEntry<String>> entries = legacyScores.entryRange(0, -1);
+        for (ScoredEntry<String> entry : entries) {
+            rankingRepository.addLegacyScore(weekStart, Long.parseLong(entry.getValue()), entry.getScore());
+        }
+
+        Map<String, String> users = new HashMap<>(legacyUsers.readAllMap());
+        users.forEach((userId, info) -> {
+            RMap<String, RankingProfile> userMap = rankingRepository.getUserMap(weekStart, Long.parseLong(userId));
+            userMap.fastPutIfAbsent(userId, RankingProfileCodec.decodeLegacy(info));
+            userMap.expire(RankingRepository.TTL);
+        });
+
+        legacyUsers.delete();
+        legacyScores.delete();
+        log.info("Migrated legacy ranking of week {} ({} participants)", weekStart, entries.size());
+    }
+}
@@ -0,0 +1,47 @@
+package com.finale.finale.ranking.repository;
+
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+final class RankingMerger {
+
+    static final Comparator<ScoredEntry<String>> BY_RANK = Comparator
+            .comparing((ScoredEntry<String> entry) -> entry.getScore()).reversed()
+            .thenComparing(ScoredEntry::getValue, Comparator.reverseOrder());
+
+    private RankingMerger() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<ScoredEntry<String>> merge(List<?> shardEntries, int skip, int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::entry, BY_RANK));
+        for (Object entries : shardEntries) {
+            Iterator<ScoredEntry<String>> iterator = ((Collection<ScoredEntry<String>>) entries).iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+
+        List<ScoredEntry<String>> merged = new ArrayList<>();
+        int index = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head next = heads.poll();
+            if (index++ >= skip) {
+                merged.add(next.entry());
+            }
+            if (next.rest().hasNext()) {
+                heads.add(new Head(next.rest().next(), next.rest()));
+            }
+        }
+        return merged;
+    }
+
+    private record Head(ScoredEntry<String> entry, Iterator<ScoredEntry<String>> rest) {
+    }
+}
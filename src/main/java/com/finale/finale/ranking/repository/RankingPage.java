@@ -0,0 +1,27 @@
+package com.finale.finale.ranking.repository;
+
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record RankingPage(
+        int firstPosition,
+        int firstRank,
+        List<ScoredEntry<String>> entries
+) {
+
+    public List<Integer> ranks() {
+        List<Integer> ranks = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            if (i == 0) {
+                ranks.add(firstRank);
+            } else if (entries.get(i).getScore().equals(entries.get(i - 1).getScore())) {
+                ranks.add(ranks.get(i - 1));
+            } else {
+                ranks.add(firstPosition + i);
+            }
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,7 @@
+package com.finale.finale.ranking.repository;
+
+public record RankingProfile(
+        String nickname,
+        String profileImage
+) {
+}
@@ -0,0 +1,109 @@
+package com.finale.finale.ranking.repository;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.nio.charset.StandardCharsets;
+
+public class RankingProfileCodec extends BaseCodec {
+
+    public static final RankingProfileCodec INSTANCE = new RankingProfileCodec();
+
+    private static final byte VERSION = 1;
+
+    private final Encoder encoder = in -> {
+        ByteBuf out = ByteBufAllocator.DEFAULT.buffer();
+        write(out, (RankingProfile) in);
+        return out;
+    };
+
+    private final Decoder<Object> decoder = (buf, state) -> read(buf);
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return StringCodec.INSTANCE.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return StringCodec.INSTANCE.getMapKeyEncoder();
+    }
+
+    public static byte[] encode(RankingProfile profile) {
+        ByteBuf out = Unpooled.buffer();
+        write(out, profile);
+        byte[] bytes = new byte[out.readableBytes()];
+        out.readBytes(bytes);
+        return bytes;
+    }
+
+    public static RankingProfile decode(byte[] bytes) {
+        return read(Unpooled.wrappedBuffer(bytes));
+    }
+
+    public static RankingProfile decodeLegacy(String value) {
+        int separator = value.lastIndexOf(':');
+        if (separator < 0) {
+            return new RankingProfile(value, "sf");
+        }
+        return new RankingProfile(value.substring(0, separator), value.substring(separator + 1));
+    }
+
+    private static void write(ByteBuf out, RankingProfile profile) {
+        out.writeByte(VERSION);
+        writeString(out, profile.nickname());
+        writeString(out, profile.profileImage());
+    }
+
+    private static RankingProfile read(ByteBuf buf) {
+        if (!buf.isReadable() || buf.getByte(buf.readerIndex()) != VERSION) {
+            String legacy = buf.toString(StandardCharsets.UTF_8);
+            buf.skipBytes(buf.readableBytes());
+            return decodeLegacy(legacy);
+        }
+
+        buf.skipBytes(1);
+        return new RankingProfile(readString(buf), readString(buf));
+    }
+
+    private static void writeString(ByteBuf out, String value) {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int length = bytes.length;
+        while ((length & ~0x7F) != 0) {
+            out.writeByte((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.writeByte(length);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuf buf) {
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.readByte();
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        String value = buf.toString(buf.readerIndex(), length, StandardCharsets.UTF_8);
+        buf.skipBytes(length);
+        return value;
+    }
+}
@@ -1,87 +1,364 @@
 package com.finale.finale.ranking.repository;
 
 import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBatch;
 import org.redisson.api.RMap;
 import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class RankingRepository {
 
+    static final Duration TTL = Duration.ofDays(14);
+
+    private static final String SUBMIT_SCRIPT = """
+            local member = ARGV[1]
+            local window = tonumber(ARGV[5])
+            local oldScore = redis.call('ZSCORE', KEYS[1], member)
+            local startRank = redis.call('ZCARD', KEYS[1]) + 1
+            if oldScore then
+                startRank = redis.call('ZCOUNT', KEYS[1], '(' .. oldScore, '+inf') + 1
+            end
+
+            local newScore = redis.call('ZINCRBY', KEYS[1], ARGV[2], member)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('HSET', KEYS[2], member, ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+
+            local endRank = redis.call('ZCOUNT', KEYS[1], '(' .. newScore, '+inf') + 1
+            local rangeStart = math.max(1, endRank - window)
+            local rangeEnd = math.min(redis.call('ZCARD', KEYS[1]), startRank + window)
+            local entries = redis.call('ZREVRANGE', KEYS[1], rangeStart - 1, rangeEnd - 1, 'WITHSCORES')
+            local firstRank = rangeStart
+            if #entries > 0 then
+                firstRank = redis.call('ZCOUNT', KEYS[1], '(' .. entries[2], '+inf') + 1
+            end
+
+            local members = {}
+            for i = 1, #entries, 2 do
+                members[#members + 1] = entries[i]
+            end
+            local infos = {}
+            if #members > 0 then
+                infos = redis.call('HMGET', KEYS[2], unpack(members))
+            end
+
+            return {newScore, oldScore or false, startRank, endRank, rangeStart, rangeEnd, entries, infos, firstRank}
+            """;
+
+    private static final String SHARD_SUBMIT_SCRIPT = """
+            local oldScore = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            local newScore = redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return {newScore, oldScore or false}
+            """;
+
+    private static final String LEGACY_SCORE_SCRIPT = """
+            if redis.call('SADD', KEYS[2], ARGV[1]) == 1 then
+                redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """;
+
     private final RedissonClient redissonClient;
 
-    public void addScore(LocalDate weekStart, Long userId, int score, String nickname, String profileImage) {
-        String scoreKey = getScoreKey(weekStart);
-        String userKey = getUserKey(weekStart);
+    @Value("${ranking.shards:1}")
+    private int shards;
 
-        RScoredSortedSet<String> scoredSet = redissonClient.getScoredSortedSet(scoreKey);
-        scoredSet.addScore(userId.toString(), score);
-        scoredSet.expire(Duration.ofDays(14));
+    public RankingSubmission submitScore(LocalDate weekStart, Long userId, int score, String nickname,
+                                         String profileImage, int window) {
+        if (shards > 1) {
+            return submitShardedScore(weekStart, userId, score, nickname, profileImage, window);
+        }
 
-        RMap<String, String> userMap = redissonClient.getMap(userKey);
-        userMap.put(userId.toString(), nickname + ":" + profileImage);
-        userMap.expire(Duration.ofDays(14));
+        List<Object> result = evalSubmit(SUBMIT_SCRIPT, weekStart, 0, userId, score, nickname, profileImage, window);
+
+        List<?> rawEntries = (List<?>) result.get(6);
+        List<?> rawInfos = (List<?>) result.get(7);
+        List<ScoredEntry<String>> entries = new ArrayList<>(rawEntries.size() / 2);
+        Map<String, RankingProfile> userInfos = new HashMap<>();
+        for (int i = 0; i < rawEntries.size(); i += 2) {
+            String member = string(rawEntries.get(i));
+            entries.add(new ScoredEntry<>(Double.parseDouble(string(rawEntries.get(i + 1))), member));
+            Object info = rawInfos.get(i / 2);
+            if (info != null) {
+                userInfos.put(member, RankingProfileCodec.decode((byte[]) info));
+            }
+        }
+
+        int rangeStart = ((Number) result.get(4)).intValue();
+        return new RankingSubmission(
+                result.get(1) != null ? (int) Double.parseDouble(string(result.get(1))) : 0,
+                (int) Double.parseDouble(string(result.get(0))),
+                ((Number) result.get(2)).intValue(),
+                ((Number) result.get(3)).intValue(),
+                rangeStart,
+                ((Number) result.get(5)).intValue(),
+                new RankingPage(rangeStart, ((Number) result.get(8)).intValue(), entries),
+                userInfos
+        );
     }
 
     public Integer getMyRank(LocalDate weekStart, Long userId) {
-        String scoreKey = getScoreKey(weekStart);
-        RScoredSortedSet<String> scoredSet = redissonClient.getScoredSortedSet(scoreKey);
+        Double score = getScore(weekStart, userId);
+        return score != null ? getRank(weekStart, score) : null;
+    }
 
-        Integer rank = scoredSet.revRank(userId.toString());
-        return rank != null ? rank + 1 : null;
+    public int getRank(LocalDate weekStart, double score) {
+        return countAbove(weekStart, score) + 1;
     }
 
     public int getTotalParticipants(LocalDate weekStart) {
-        String scoreKey = getScoreKey(weekStart);
-        RScoredSortedSet<String> scoredSet = redissonClient.getScoredSortedSet(scoreKey);
-        return scoredSet.size();
+        RBatch batch = redissonClient.createBatch();
+        for (int shard = 0; shard < shards; shard++) {
+            batchScoredSet(batch, weekStart, shard).sizeAsync();
+        }
+        return batch.execute().getResponses().stream()
+                .mapToInt(size -> ((Number) size).intValue())
+                .sum();
     }
 
-    public Collection<ScoredEntry<String>> getTopRankings(LocalDate weekStart) {
-        String scoreKey = getScoreKey(weekStart);
-        RScoredSortedSet<String> scoredSet = redissonClient.getScoredSortedSet(scoreKey);
-        return scoredSet.entryRangeReversed(0, -1);
+    public Collection<ScoredEntry<String>> getTopRankings(LocalDate weekStart, int limit) {
+        if (shards == 1) {
+            return shardScoredSet(weekStart, 0).entryRangeReversed(0, limit - 1);
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        for (int shard = 0; shard < shards; shard++) {
+            batchScoredSet(batch, weekStart, shard).entryRangeReversedAsync(0, limit - 1);
+        }
+        return RankingMerger.merge(batch.execute().getResponses(), 0, limit);
     }
 
-    public Map<String, String> getUserInfos(LocalDate weekStart, Collection<String> userIds) {
-        String userKey = getUserKey(weekStart);
-        RMap<String, String> userMap = redissonClient.getMap(userKey);
-        return userMap.getAll(new HashSet<>(userIds));
+    public RankingPage getRankRange(LocalDate weekStart, double pivot, int fromPosition, int toPosition) {
+        int size = toPosition - fromPosition + 1;
+        if (shards == 1) {
+            return toPage(weekStart, fromPosition,
+                    new ArrayList<>(shardScoredSet(weekStart, 0).entryRangeReversed(fromPosition - 1, toPosition - 1)));
+        }
+
+        int offset = fromPosition - getRank(weekStart, pivot);
+        int skip = Math.max(0, offset);
+        List<ScoredEntry<String>> entries = rangeAround(
+                weekStart, pivot, Math.max(0, -offset), skip, Math.max(0, offset + size - skip));
+        return toPage(weekStart, fromPosition, entries.subList(0, Math.min(size, entries.size())));
     }
 
-    public void updateUserInfo(LocalDate weekStart, Long userId, String nickname, String profileImage) {
-        String userKey = getUserKey(weekStart);
-        RMap<String, String> userMap = redissonClient.getMap(userKey);
+    public Map<String, RankingProfile> getUserInfos(LocalDate weekStart, Collection<String> userIds) {
+        Map<Integer, Set<String>> idsByShard = new HashMap<>();
+        for (String userId : userIds) {
+            idsByShard.computeIfAbsent(shardOf(Long.parseLong(userId)), key -> new HashSet<>()).add(userId);
+        }
 
-        if (userMap.containsKey(userId.toString())) {
-            userMap.put(userId.toString(), nickname + ":" + profileImage);
+        RBatch batch = redissonClient.createBatch();
+        idsByShard.forEach((shard, ids) -> batch
+                .<String, RankingProfile>getMap(getUserKey(weekStart, shard), RankingProfileCodec.INSTANCE)
+                .getAllAsync(ids));
+
+        Map<String, RankingProfile> userInfos = new HashMap<>();
+        for (Object response : batch.execute().getResponses()) {
+            @SuppressWarnings("unchecked")
+            Map<String, RankingProfile> shardInfos = (Map<String, RankingProfile>) response;
+            userInfos.putAll(shardInfos);
         }
+        return userInfos;
+    }
+
+    public void updateUserInfo(LocalDate weekStart, Long userId, String nickname, String profileImage) {
+        getUserMap(weekStart, userId).fastReplace(userId.toString(), new RankingProfile(nickname, profileImage));
     }
 
     public Double getScore(LocalDate weekStart, Long userId) {
-        RScoredSortedSet<String> scoredSet = redissonClient.getScoredSortedSet(getScoreKey(weekStart));
-        return scoredSet.getScore(userId.toString());
+        return getScoredSet(weekStart, userId).getScore(userId.toString());
+    }
+
+    private RScoredSortedSet<String> getScoredSet(LocalDate weekStart, Long userId) {
+        return shardScoredSet(weekStart, shardOf(userId));
+    }
+
+    RMap<String, RankingProfile> getUserMap(LocalDate weekStart, Long userId) {
+        return redissonClient.getMap(getUserKey(weekStart, shardOf(userId)), RankingProfileCodec.INSTANCE);
+    }
+
+    void addLegacyScore(LocalDate weekStart, Long userId, double score) {
+        int shard = shardOf(userId);
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                LEGACY_SCORE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(getScoreKey(weekStart, shard), getMigratedKey(weekStart, shard)),
+                userId.toString(),
+                Double.toString(score),
+                Long.toString(TTL.toMillis())
+        );
+    }
+
+    private RankingSubmission submitShardedScore(LocalDate weekStart, Long userId, int score, String nickname,
+                                                 String profileImage, int window) {
+        List<Object> result = evalSubmit(
+                SHARD_SUBMIT_SCRIPT, weekStart, shardOf(userId), userId, score, nickname, profileImage, window);
+        double newScore = Double.parseDouble(string(result.get(0)));
+        Double oldScore = result.get(1) != null ? Double.parseDouble(string(result.get(1))) : null;
+
+        RBatch batch = redissonClient.createBatch();
+        for (int shard = 0; shard < shards; shard++) {
+            RScoredSortedSetAsync<String> set = batchScoredSet(batch, weekStart, shard);
+            set.sizeAsync();
+            set.countAsync(newScore, false, Double.POSITIVE_INFINITY, true);
+            if (oldScore != null) {
+                set.countAsync(oldScore, false, Double.POSITIVE_INFINITY, true);
+            }
+        }
+        List<?> responses = batch.execute().getResponses();
+
+        int step = oldScore != null ? 3 : 2;
+        int total = 0;
+        int aboveNew = 0;
+        int aboveOld = 0;
+        for (int i = 0; i < responses.size(); i += step) {
+            total += ((Number) responses.get(i)).intValue();
+            aboveNew += ((Number) responses.get(i + 1)).intValue();
+            if (oldScore != null) {
+                aboveOld += ((Number) responses.get(i + 2)).intValue();
+            }
+        }
+
+        SubmissionRanks ranks = SubmissionRanks.of(total, aboveNew, aboveOld, oldScore, newScore, window);
+        List<ScoredEntry<String>> entries = rangeAround(weekStart, newScore,
+                ranks.endRank() - ranks.rangeStart(), 0, ranks.rangeEnd() - ranks.endRank() + 1);
+        Map<String, RankingProfile> userInfos = entries.isEmpty()
+                ? Map.of()
+                : getUserInfos(weekStart, entries.stream().map(ScoredEntry::getValue).toList());
+
+        return new RankingSubmission(
+                oldScore != null ? oldScore.intValue() : 0,
+                (int) newScore,
+                ranks.startRank(),
+                ranks.endRank(),
+                ranks.rangeStart(),
+                ranks.rangeEnd(),
+                toPage(weekStart, ranks.rangeStart(), entries),
+                userInfos
+        );
+    }
+
+    private List<ScoredEntry<String>> rangeAround(LocalDate weekStart, double pivot, int above, int skipBelow, int below) {
+        RBatch batch = redissonClient.createBatch();
+        for (int shard = 0; shard < shards; shard++) {
+            RScoredSortedSetAsync<String> set = batchScoredSet(batch, weekStart, shard);
+            set.entryRangeAsync(pivot, false, Double.POSITIVE_INFINITY, true, 0, above);
+            set.entryRangeReversedAsync(Double.NEGATIVE_INFINITY, true, pivot, true, 0, skipBelow + below);
+        }
+        List<?> responses = batch.execute().getResponses();
+
+        List<Object> aboveResponses = new ArrayList<>();
+        List<Object> belowResponses = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i += 2) {
+            List<?> ascending = new ArrayList<>((Collection<?>) responses.get(i));
+            Collections.reverse(ascending);
+            aboveResponses.add(ascending);
+            belowResponses.add(responses.get(i + 1));
+        }
+
+        List<ScoredEntry<String>> closestAbove = RankingMerger.merge(aboveResponses, 0, Integer.MAX_VALUE);
+        List<ScoredEntry<String>> window = new ArrayList<>(
+                closestAbove.subList(Math.max(0, closestAbove.size() - above), closestAbove.size()));
+        window.addAll(RankingMerger.merge(belowResponses, skipBelow, below));
+        return window;
+    }
+
+    private RankingPage toPage(LocalDate weekStart, int firstPosition, List<ScoredEntry<String>> entries) {
+        if (firstPosition == 1 || entries.isEmpty()) {
+            return new RankingPage(firstPosition, firstPosition, entries);
+        }
+        return new RankingPage(firstPosition, getRank(weekStart, entries.get(0).getScore()), entries);
+    }
+
+    private int countAbove(LocalDate weekStart, double score) {
+        RBatch batch = redissonClient.createBatch();
+        for (int shard = 0; shard < shards; shard++) {
+            batchScoredSet(batch, weekStart, shard).countAsync(score, false, Double.POSITIVE_INFINITY, true);
+        }
+        return batch.execute().getResponses().stream()
+                .mapToInt(count -> ((Number) count).intValue())
+                .sum();
+    }
+
+    private List<Object> evalSubmit(String script, LocalDate weekStart, int shard, Long userId, int score,
+                                    String nickname, String profileImage, int window) {
+        return redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                script,
+                RScript.ReturnType.MULTI,
+                List.of(getScoreKey(weekStart, shard), getUserKey(weekStart, shard)),
+                bytes(userId.toString()),
+                bytes(Integer.toString(score)),
+                RankingProfileCodec.encode(new RankingProfile(nickname, profileImage)),
+                bytes(Long.toString(TTL.toMillis())),
+                bytes(Integer.toString(window))
+        );
+    }
+
+    private RScoredSortedSet<String> shardScoredSet(LocalDate weekStart, int shard) {
+        return redissonClient.getScoredSortedSet(getScoreKey(weekStart, shard), StringCodec.INSTANCE);
+    }
+
+    private RScoredSortedSetAsync<String> batchScoredSet(RBatch batch, LocalDate weekStart, int shard) {
+        return batch.getScoredSortedSet(getScoreKey(weekStart, shard), StringCodec.INSTANCE);
+    }
+
+    private int shardOf(Long userId) {
+        if (shards == 1) {
+            return 0;
+        }
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shards);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(Object value) {
+        return new String((byte[]) value, StandardCharsets.UTF_8);
+    }
+
+    private String getScoreKey(LocalDate weekStart, int shard) {
+        return "ranking:v2:{" + slot(weekStart, shard) + "}:score";
     }
 
-    public Collection<ScoredEntry<String>> getRankRangeEntries(LocalDate weekStart, int startIndex, int endIndex) {
-        RScoredSortedSet<String> scoredSet = redissonClient.getScoredSortedSet(getScoreKey(weekStart));
-        return scoredSet.entryRangeReversed(startIndex, endIndex);
+    private String getUserKey(LocalDate weekStart, int shard) {
+        return "ranking:v2:{" + slot(weekStart, shard) + "}:user";
     }
 
-    private String getScoreKey(LocalDate weekStart) {
-        return "ranking:score:" + weekStart;
+    private String getMigratedKey(LocalDate weekStart, int shard) {
+        return "ranking:v2:{" + slot(weekStart, shard) + "}:legacy-migrated";
     }
 
-    private String getUserKey(LocalDate weekStart) {
-        return "ranking:user:" + weekStart;
+    private String slot(LocalDate weekStart, int shard) {
+        return shards == 1 ? weekStart.toString() : weekStart + ":" + shard;
     }
 }
@@ -0,0 +1,15 @@
+package com.finale.finale.ranking.repository;
+
+import java.util.Map;
+
+public record RankingSubmission(
+        int oldScore,
+        int newScore,
+        int startRank,
+        int endRank,
+        int rangeStart,
+        int rangeEnd,
+        RankingPage page,
+        Map<String, RankingProfile> userInfos
+) {
+}
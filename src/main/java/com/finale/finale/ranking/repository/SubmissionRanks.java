@@ -0,0 +1,17 @@
+package com.finale.finale.ranking.repository;
+
+record SubmissionRanks(int startRank, int endRank, int rangeStart, int rangeEnd) {
+
+    static SubmissionRanks of(int total, int aboveNew, int aboveOld, Double oldScore, double newScore, int window) {
+        int endRank = aboveNew + 1;
+        int startRank = oldScore == null
+                ? total
+                : aboveOld + (newScore > oldScore ? 0 : 1);
+        return new SubmissionRanks(
+                startRank,
+                endRank,
+                Math.max(1, endRank - window),
+                Math.min(total, startRank + window)
+        );
+    }
+}
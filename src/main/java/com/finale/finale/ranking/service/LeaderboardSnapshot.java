@@ -0,0 +1,25 @@
+package com.finale.finale.ranking.service;
+
+import com.finale.finale.ranking.dto.response.RankingResponse;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public record LeaderboardSnapshot(
+        List<RankingResponse.RankingEntry> top,
+        int totalParticipants,
+        Map<Long, RankingResponse.RankingEntry> entriesByUserId
+) {
+
+    public static LeaderboardSnapshot of(List<RankingResponse.RankingEntry> top, int totalParticipants) {
+        Map<Long, RankingResponse.RankingEntry> entriesByUserId = new HashMap<>();
+        top.forEach(entry -> entriesByUserId.put(entry.userId(), entry));
+        return new LeaderboardSnapshot(List.copyOf(top), totalParticipants, Map.copyOf(entriesByUserId));
+    }
+
+    public Optional<RankingResponse.RankingEntry> find(Long userId) {
+        return Optional.ofNullable(entriesByUserId.get(userId));
+    }
+}
@@ -6,12 +6,17 @@ import com.finale.finale.exception.CustomException;
 import com.finale.finale.exception.ErrorCode;
 import com.finale.finale.ranking.dto.request.RankingResultRequest;
 import com.finale.finale.ranking.dto.response.MyRankingResponse;
+import com.finale.finale.ranking.dto.response.RankingPageResponse;
 import com.finale.finale.ranking.dto.response.RankingResponse;
 import com.finale.finale.ranking.dto.response.RankingResultResponse;
 import com.finale.finale.ranking.dto.response.TimeLeft;
+import com.finale.finale.ranking.repository.RankingPage;
+import com.finale.finale.ranking.repository.RankingProfile;
 import com.finale.finale.ranking.repository.RankingRepository;
+import com.finale.finale.ranking.repository.RankingSubmission;
 import lombok.RequiredArgsConstructor;
 import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
@@ -22,63 +27,111 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
+    private static final int RANK_WINDOW = 3;
+    private static final RankingProfile UNKNOWN_PROFILE = new RankingProfile("Unknown", "sf");
+
     private final RankingRepository rankingRepository;
     private final UserRepository userRepository;
+    private final RankingTopCache rankingTopCache;
+
+    @Value("${ranking.top.size:100}")
+    private int topSize;
+
+    @Value("${ranking.page.max-size:50}")
+    private int maxPageSize;
 
     public RankingResponse getRankings(Long userId) {
         LocalDate weekStart = getWeekStart();
         LocalDate weekEnd = weekStart.plusDays(6);
 
-        Integer myRanking = rankingRepository.getMyRank(weekStart, userId);
+        LeaderboardSnapshot snapshot = rankingTopCache.get(weekStart, this::loadSnapshot);
+        Integer myRanking = snapshot.find(userId)
+                .map(RankingResponse.RankingEntry::rank)
+                .orElseGet(() -> rankingRepository.getMyRank(weekStart, userId));
+
+        return new RankingResponse(
+                getSeasonName(weekStart),
+                weekStart,
+                weekEnd,
+                calculateTimeLeft(weekEnd),
+                myRanking,
+                participantsOf(snapshot, myRanking),
+                snapshot.top()
+        );
+    }
+
+    public RankingPageResponse getRankingsAroundMe(Long userId, int page, int size) {
+        LocalDate weekStart = getWeekStart();
+        int pageSize = Math.clamp(size, 1, maxPageSize);
+
+        Double myScore = rankingRepository.getScore(weekStart, userId);
+        Integer myRanking = myScore != null ? rankingRepository.getRank(weekStart, myScore) : null;
         int totalParticipants = rankingRepository.getTotalParticipants(weekStart);
+        if (totalParticipants == 0) {
+            return new RankingPageResponse(myRanking, 0, 0, 0, false, false, List.of());
+        }
+
+        int anchor = myRanking != null ? myRanking : totalParticipants;
+        int fromRank = Math.max(1, anchor - pageSize / 2) + page * pageSize;
+        fromRank = Math.clamp(fromRank, 1, totalParticipants);
+        int toRank = Math.min(totalParticipants, fromRank + pageSize - 1);
 
-        Collection<ScoredEntry<String>> topScores = rankingRepository.getTopRankings(weekStart);
+        double pivot = myScore != null ? myScore : Double.NEGATIVE_INFINITY;
+        RankingPage window = rankingRepository.getRankRange(weekStart, pivot, fromRank, toRank);
+
+        return new RankingPageResponse(
+                myRanking,
+                totalParticipants,
+                fromRank,
+                toRank,
+                fromRank > 1,
+                toRank < totalParticipants,
+                toRankingEntries(weekStart, window)
+        );
+    }
 
-        List<String> userIds = topScores.stream()
+    private LeaderboardSnapshot loadSnapshot(LocalDate weekStart) {
+        int totalParticipants = rankingRepository.getTotalParticipants(weekStart);
+        Collection<ScoredEntry<String>> topScores = rankingRepository.getTopRankings(weekStart, topSize);
+        RankingPage top = new RankingPage(1, 1, List.copyOf(topScores));
+        return LeaderboardSnapshot.of(toRankingEntries(weekStart, top), totalParticipants);
+    }
+
+    private int participantsOf(LeaderboardSnapshot snapshot, Integer myRanking) {
+        return myRanking != null ? Math.max(snapshot.totalParticipants(), myRanking) : snapshot.totalParticipants();
+    }
+
+    private List<RankingResponse.RankingEntry> toRankingEntries(LocalDate weekStart, RankingPage page) {
+        List<String> userIds = page.entries().stream()
                 .map(ScoredEntry::getValue)
                 .toList();
 
-        Map<String, String> userInfos = userIds.isEmpty()
+        Map<String, RankingProfile> userInfos = userIds.isEmpty()
                 ? Map.of()
                 : rankingRepository.getUserInfos(weekStart, userIds);
 
         List<RankingResponse.RankingEntry> rankings = new ArrayList<>();
-        int rank = 1;
-        for (ScoredEntry<String> entry : topScores) {
+        List<Integer> ranks = page.ranks();
+        for (int i = 0; i < ranks.size(); i++) {
+            ScoredEntry<String> entry = page.entries().get(i);
             String userIdStr = entry.getValue();
-            String userInfo = userInfos.get(userIdStr);
-
-            String nickname = "Unknown";
-            String profileImage = "sf";
-            if (userInfo != null) {
-                String[] parts = userInfo.split(":");
-                nickname = parts[0];
-                profileImage = parts.length > 1 ? parts[1] : "sf";
-            }
+            RankingProfile profile = userInfos.getOrDefault(userIdStr, UNKNOWN_PROFILE);
 
             rankings.add(new RankingResponse.RankingEntry(
-                    rank++,
+                    ranks.get(i),
                     Long.parseLong(userIdStr),
-                    nickname,
+                    profile.nickname(),
                     entry.getScore().intValue(),
-                    profileImage
+                    profile.profileImage()
             ));
         }
-
-        return new RankingResponse(
-                getSeasonName(weekStart),
-                weekStart,
-                weekEnd,
-                calculateTimeLeft(weekEnd),
-                myRanking,
-                totalParticipants,
-                rankings
-        );
+        return rankings;
     }
 
     public RankingResultResponse processResult(Long userId, RankingResultRequest request) {
@@ -87,81 +140,45 @@ public class RankingService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        Double currentScoreDouble = rankingRepository.getScore(weekStart, userId);
-        int oldScore = currentScoreDouble != null ? currentScoreDouble.intValue() : 0;
-
-        Integer startRank = rankingRepository.getMyRank(weekStart, userId);
-        int totalParticipants = rankingRepository.getTotalParticipants(weekStart);
-
-        if (startRank == null) {
-            startRank = totalParticipants + 1;
-            totalParticipants++;
-        }
-
-        int gainedScore = request.gainedScore();
-        int newScore = oldScore + gainedScore;
-
-        rankingRepository.addScore(
+        RankingSubmission submission = rankingRepository.submitScore(
                 weekStart,
                 userId,
-                gainedScore,
+                request.gainedScore(),
                 user.getNickname(),
-                user.getImageCategory().name()
+                user.getImageCategory().name(),
+                RANK_WINDOW
         );
-
-        Integer endRank = rankingRepository.getMyRank(weekStart, userId);
-        if (endRank == null) {
-            endRank = 1;
+        if (submission.endRank() <= topSize) {
+            rankingTopCache.invalidate(weekStart);
         }
 
-        int rangeStart = Math.max(1, endRank - 3);
-        int participantsAfterAdd = rankingRepository.getTotalParticipants(weekStart);
-        int rangeEnd = Math.min(participantsAfterAdd, startRank + 3);
-
-        List<RankingResultResponse.RankingResultEntry> rankingRange = getRankRange(weekStart, rangeStart, rangeEnd);
-
         return new RankingResultResponse(
-                startRank,
-                endRank,
-                startRank - endRank,
-                oldScore,
-                newScore,
-                rangeStart,
-                rangeEnd,
-                rankingRange
+                submission.startRank(),
+                submission.endRank(),
+                submission.startRank() - submission.endRank(),
+                submission.oldScore(),
+                submission.newScore(),
+                submission.rangeStart(),
+                submission.rangeEnd(),
+                toRankingRange(submission)
         );
     }
 
-    private List<RankingResultResponse.RankingResultEntry> getRankRange(LocalDate weekStart, int rangeStart, int rangeEnd) {
-        Collection<ScoredEntry<String>> entries = rankingRepository.getRankRangeEntries(
-                weekStart,
-                rangeStart - 1,
-                rangeEnd - 1
-        );
-
-        if (entries.isEmpty()) {
-            return List.of();
-        }
-
-        List<String> userIds = entries.stream()
-                .map(ScoredEntry::getValue)
-                .toList();
-
-        Map<String, String> userInfos = rankingRepository.getUserInfos(weekStart, userIds);
-
+    private List<RankingResultResponse.RankingResultEntry> toRankingRange(RankingSubmission submission) {
         List<RankingResultResponse.RankingResultEntry> result = new ArrayList<>();
-        int rank = rangeStart;
+        List<Integer> ranks = submission.page().ranks();
 
-        for (ScoredEntry<String> entry : entries) {
+        for (int i = 0; i < ranks.size(); i++) {
+            ScoredEntry<String> entry = submission.page().entries().get(i);
             String odai = entry.getValue();
-            String[] info = userInfos.getOrDefault(odai, "Unknown:sf").split(":");
+            RankingProfile profile = submission.userInfos().getOrDefault(odai, UNKNOWN_PROFILE);
 
             result.add(new RankingResultResponse.RankingResultEntry(
-                    rank++,
+                    ranks.get(i),
                     Long.parseLong(odai),
-                    info[0],
+                    profile.nickname(),
                     entry.getScore().intValue(),
-                    info.length > 1 ? info[1] : "sf"
+                    profile.profileImage()
             ));
         }
 
@@ -171,18 +188,27 @@ public class RankingService {
     public void updateUserInfo(Long userId, String nickname, String profileImage) {
         LocalDate weekStart = getWeekStart();
         rankingRepository.updateUserInfo(weekStart, userId, nickname, profileImage);
+        rankingTopCache.invalidate(weekStart);
     }
 
     public MyRankingResponse getMyRanking(Long userId) {
         LocalDate weekStart = getWeekStart();
         LocalDate weekEnd = weekStart.plusDays(6);
 
-        Integer myRanking = rankingRepository.getMyRank(weekStart, userId);
-
-        Double scoreDouble = rankingRepository.getScore(weekStart, userId);
-        int score = scoreDouble != null ? scoreDouble.intValue() : 0;
-
-        int totalParticipants = rankingRepository.getTotalParticipants(weekStart);
+        LeaderboardSnapshot snapshot = rankingTopCache.get(weekStart, this::loadSnapshot);
+        Optional<RankingResponse.RankingEntry> cached = snapshot.find(userId);
+
+        Integer myRanking;
+        int score;
+        if (cached.isPresent()) {
+            myRanking = cached.get().rank();
+            score = cached.get().score();
+        } else {
+            myRanking = rankingRepository.getMyRank(weekStart, userId);
+            Double scoreDouble = rankingRepository.getScore(weekStart, userId);
+            score = scoreDouble != null ? scoreDouble.intValue() : 0;
+        }
+        int totalParticipants = participantsOf(snapshot, myRanking);
 
         if (myRanking == null) {
             myRanking = 0;
@@ -0,0 +1,58 @@
+package com.finale.finale.ranking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class RankingTopCache {
+
+    private static final String INVALIDATION_TOPIC = "ranking:invalidate";
+
+    private final RedissonClient redissonClient;
+    private final Cache<LocalDate, LeaderboardSnapshot> snapshots;
+
+    public RankingTopCache(
+            RedissonClient redissonClient,
+            @Value("${ranking.top.snapshot-ttl:5s}") Duration ttl
+    ) {
+        this.redissonClient = redissonClient;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(2)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @PostConstruct
+    void subscribeInvalidations() {
+        getTopic().addListener(String.class, (channel, weekStart) -> snapshots.invalidate(LocalDate.parse(weekStart)));
+    }
+
+    public LeaderboardSnapshot get(LocalDate weekStart, Function<LocalDate, LeaderboardSnapshot> loader) {
+        return snapshots.get(weekStart, loader);
+    }
+
+    public void invalidate(LocalDate weekStart) {
+        snapshots.invalidate(weekStart);
+        try {
+            getTopic().publish(weekStart.toString());
+        } catch (Exception e) {
+            log.warn("Failed to publish leaderboard invalidation for week {}", weekStart, e);
+        }
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,108 @@
+package db.migration;
+
+import com.finale.finale.book.domain.UnknownWord;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+
+@Slf4j
+public class V4__DeduplicateUnknownWords extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        jdbcTemplate.execute("ALTER TABLE unknown_words ADD COLUMN lemma VARCHAR(255) COLLATE utf8mb4_bin");
+        backfillLemmas(jdbcTemplate);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS unknown_word_occurrences (
+                    unknown_word_id  BIGINT       NOT NULL,
+                    book_id          BIGINT       NOT NULL,
+                    sentence_id      BIGINT       NOT NULL,
+                    sentence         VARCHAR(255) NOT NULL,
+                    sentence_meaning VARCHAR(255) NOT NULL,
+                    location         INT          NOT NULL,
+                    length           INT          NOT NULL,
+                    CONSTRAINT fk_unknown_word_occurrences_word FOREIGN KEY (unknown_word_id) REFERENCES unknown_words (id),
+                    INDEX idx_unknown_word_occurrences_book (book_id)
+                ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4
+                """);
+
+        jdbcTemplate.execute("""
+                CREATE TEMPORARY TABLE unknown_word_keepers AS
+                SELECT user_id, lemma, MIN(id) AS keeper_id
+                FROM unknown_words
+                GROUP BY user_id, lemma
+                """);
+
+        jdbcTemplate.execute("""
+                INSERT INTO unknown_word_occurrences (unknown_word_id, book_id, sentence_id, sentence, sentence_meaning, location, length)
+                SELECT k.keeper_id, w.book_id, w.sentence_id, w.sentence, w.sentence_meaning, w.location, w.length
+                FROM unknown_words w
+                JOIN unknown_word_keepers k ON k.user_id = w.user_id AND k.lemma = w.lemma
+                ORDER BY w.id
+                """);
+
+        jdbcTemplate.execute("""
+                UPDATE book_review_words brw
+                JOIN unknown_words w ON w.id = brw.unknown_word_id
+                JOIN unknown_word_keepers k ON k.user_id = w.user_id AND k.lemma = w.lemma
+                SET brw.unknown_word_id = k.keeper_id
+                WHERE brw.unknown_word_id <> k.keeper_id
+                """);
+
+        int removed = jdbcTemplate.update("""
+                DELETE w
+                FROM unknown_words w
+                JOIN unknown_word_keepers k ON k.user_id = w.user_id AND k.lemma = w.lemma
+                WHERE w.id <> k.keeper_id
+                """);
+
+        jdbcTemplate.execute("DROP TEMPORARY TABLE unknown_word_keepers");
+
+        jdbcTemplate.execute("""
+                ALTER TABLE unknown_words
+                    MODIFY COLUMN lemma VARCHAR(255) COLLATE utf8mb4_bin NOT NULL,
+                    ADD CONSTRAINT uk_unknown_words_user_lemma UNIQUE (user_id, lemma)
+                """);
+        log.info("Merged {} duplicate unknown words into their per-user lemma", removed);
+    }
+
+    private void backfillLemmas(JdbcTemplate jdbcTemplate) {
+        long cursor = 0;
+        List<IdAndWord> chunk;
+        do {
+            chunk = jdbcTemplate.query(
+                    "SELECT id, word FROM unknown_words WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new IdAndWord(rs.getLong("id"), rs.getString("word")),
+                    cursor, CHUNK_SIZE
+            );
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "UPDATE unknown_words SET lemma = ? WHERE id = ?",
+                    chunk.stream()
+                            .map(row -> new Object[]{UnknownWord.lemmaOf(row.word()), row.id()})
+                            .toList()
+            );
+            cursor = chunk.get(chunk.size() - 1).id();
+        } while (chunk.size() == CHUNK_SIZE);
+    }
+
+    private record IdAndWord(Long id, String word) {
+    }
+}
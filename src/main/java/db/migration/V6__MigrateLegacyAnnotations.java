@@ -0,0 +1,118 @@
+package db.migration;
+
+import com.finale.finale.book.domain.Phrase;
+import com.finale.finale.book.domain.PhraseWord;
+import com.finale.finale.book.domain.SentenceAnnotations;
+import com.finale.finale.book.domain.SentenceAnnotationsConverter;
+import com.finale.finale.book.domain.Word;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class V6__MigrateLegacyAnnotations extends BaseJavaMigration {
+
+    private static final long CHUNK_SIZE = 1_000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection, "words") || !tableExists(connection, "phrases") || !tableExists(connection, "phrase_words")) {
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        Long maxSentenceId = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(COALESCE((SELECT MAX(sentence_id) FROM words), 0), "
+                        + "COALESCE((SELECT MAX(sentence_id) FROM phrases), 0))",
+                Long.class
+        );
+
+        SentenceAnnotationsConverter converter = new SentenceAnnotationsConverter();
+        int migrated = 0;
+        for (long from = 1; maxSentenceId != null && from <= maxSentenceId; from += CHUNK_SIZE) {
+            migrated += migrateChunk(jdbcTemplate, converter, from, from + CHUNK_SIZE);
+        }
+
+        jdbcTemplate.execute("DROP TABLE phrase_words");
+        jdbcTemplate.execute("DROP TABLE phrases");
+        jdbcTemplate.execute("DROP TABLE words");
+        log.info("Migrated legacy word/phrase rows of {} sentences into annotations", migrated);
+    }
+
+    private int migrateChunk(JdbcTemplate jdbcTemplate, SentenceAnnotationsConverter converter, long from, long to) {
+        Map<Long, List<Word>> words = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT sentence_id, word, meaning, location FROM words WHERE sentence_id >= ? AND sentence_id < ? ORDER BY id",
+                rs -> {
+                    words.computeIfAbsent(rs.getLong("sentence_id"), key -> new ArrayList<>())
+                            .add(new Word(null, rs.getString("word"), rs.getString("meaning"), rs.getInt("location")));
+                },
+                from, to
+        );
+
+        Map<Long, Phrase> phrasesById = new HashMap<>();
+        Map<Long, List<Phrase>> phrases = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, sentence_id, meaning FROM phrases WHERE sentence_id >= ? AND sentence_id < ? ORDER BY id",
+                rs -> {
+                    Phrase phrase = new Phrase(null, rs.getString("meaning"));
+                    phrasesById.put(rs.getLong("id"), phrase);
+                    phrases.computeIfAbsent(rs.getLong("sentence_id"), key -> new ArrayList<>()).add(phrase);
+                },
+                from, to
+        );
+
+        if (!phrasesById.isEmpty()) {
+            jdbcTemplate.query(
+                    "SELECT pw.phrase_id, pw.word, pw.location FROM phrase_words pw "
+                            + "JOIN phrases p ON p.id = pw.phrase_id "
+                            + "WHERE p.sentence_id >= ? AND p.sentence_id < ? ORDER BY pw.id",
+                    rs -> {
+                        Phrase phrase = phrasesById.get(rs.getLong("phrase_id"));
+                        phrase.addPhraseWord(new PhraseWord(phrase, rs.getString("word"), rs.getInt("location")));
+                    },
+                    from, to
+            );
+        }
+
+        Map<Long, SentenceAnnotations> annotations = new LinkedHashMap<>();
+        words.forEach((sentenceId, sentenceWords) ->
+                annotations.put(sentenceId, new SentenceAnnotations(sentenceWords, phrases.getOrDefault(sentenceId, List.of()))));
+        phrases.forEach((sentenceId, sentencePhrases) ->
+                annotations.putIfAbsent(sentenceId, new SentenceAnnotations(List.of(), sentencePhrases)));
+
+        if (annotations.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> updates = annotations.entrySet().stream()
+                .map(entry -> new Object[]{converter.convertToDatabaseColumn(entry.getValue()), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE sentences SET annotations = ? WHERE id = ? AND annotations IS NULL", updates);
+        return annotations.size();
+    }
+
+    private static boolean tableExists(Connection connection, String tableName) throws SQLException {
+        try (ResultSet tables = connection.getMetaData()
+                .getTables(connection.getCatalog(), null, tableName, new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+}
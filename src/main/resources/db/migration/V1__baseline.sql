@@ -0,0 +1,173 @@
+CREATE TABLE IF NOT EXISTS users (
+    id                         BIGINT       NOT NULL AUTO_INCREMENT,
+    email                      VARCHAR(255) NOT NULL,
+    nickname                   VARCHAR(100),
+    image_category             VARCHAR(255) NOT NULL,
+    role                       VARCHAR(20)  NOT NULL,
+    ability_score              INT          NOT NULL,
+    book_read_count            INT          NOT NULL,
+    total_sentences_read       INT          NOT NULL,
+    unknown_words_count        INT          NOT NULL,
+    today_books_read_count     INT          NOT NULL,
+    today_sentences_read_count INT          NOT NULL,
+    continuos_learning         INT          NOT NULL,
+    last_learn_date            DATE         NOT NULL,
+    created_at                 DATETIME(6)  NOT NULL,
+    updated_at                 DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS oauth_providers (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    provider         VARCHAR(20)  NOT NULL,
+    provider_user_id VARCHAR(255) NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_oauth_providers_provider_user UNIQUE (provider, provider_user_id),
+    CONSTRAINT fk_oauth_providers_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    token      VARCHAR(500) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token),
+    INDEX idx_token (token),
+    INDEX idx_user_id (user_id),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS books (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    title            VARCHAR(255) NOT NULL,
+    category         VARCHAR(50),
+    ability_score    INT          NOT NULL,
+    total_word_count INT          NOT NULL,
+    is_completed     BIT(1)       NOT NULL,
+    is_provision     BIT(1)       NOT NULL,
+    is_bookmarked    BIT(1)       NOT NULL,
+    completed_at     DATETIME(6),
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_books_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS sentences (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    book_id          BIGINT       NOT NULL,
+    paragraph_number INT          NOT NULL,
+    sentence_order   INT          NOT NULL,
+    english_text     VARCHAR(255) NOT NULL,
+    korean_text      VARCHAR(255) NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_sentences_book FOREIGN KEY (book_id) REFERENCES books (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS words (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    sentence_id BIGINT       NOT NULL,
+    word        VARCHAR(255) NOT NULL,
+    meaning     VARCHAR(255) NOT NULL,
+    location    INT          NOT NULL,
+    length      INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_words_sentence FOREIGN KEY (sentence_id) REFERENCES sentences (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS phrases (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    sentence_id BIGINT       NOT NULL,
+    meaning     VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_phrases_sentence FOREIGN KEY (sentence_id) REFERENCES sentences (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS phrase_words (
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    phrase_id BIGINT,
+    word      VARCHAR(255) NOT NULL,
+    location  INT          NOT NULL,
+    length    INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_phrase_words_phrase FOREIGN KEY (phrase_id) REFERENCES phrases (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS quizzes (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    book_id        BIGINT       NOT NULL,
+    question       VARCHAR(255) NOT NULL,
+    correct_answer BIT(1)       NOT NULL,
+    user_answer    BIT(1),
+    is_solved      BIT(1),
+    created_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_quizzes_book FOREIGN KEY (book_id) REFERENCES books (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS unknown_words (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    book_id          BIGINT       NOT NULL,
+    word             VARCHAR(255) NOT NULL,
+    word_meaning     VARCHAR(255) NOT NULL,
+    sentence         VARCHAR(255) NOT NULL,
+    sentence_meaning VARCHAR(255) NOT NULL,
+    sentence_id      BIGINT       NOT NULL,
+    location         INT          NOT NULL,
+    length           INT          NOT NULL,
+    review_count     INT          NOT NULL,
+    next_review_date DATE         NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_unknown_words_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_unknown_words_book FOREIGN KEY (book_id) REFERENCES books (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS unknown_phrases (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    book_id          BIGINT       NOT NULL,
+    phrase           VARCHAR(255) NOT NULL,
+    phrase_meaning   VARCHAR(255) NOT NULL,
+    sentence         VARCHAR(255) NOT NULL,
+    sentence_meaning VARCHAR(255) NOT NULL,
+    sentence_id      BIGINT       NOT NULL,
+    review_count     INT          NOT NULL,
+    next_review_date DATE         NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_unknown_phrases_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_unknown_phrases_book FOREIGN KEY (book_id) REFERENCES books (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS unknown_phrase_words (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    unknown_phrase_id BIGINT       NOT NULL,
+    word              VARCHAR(255) NOT NULL,
+    location          INT          NOT NULL,
+    length            INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_unknown_phrase_words_phrase FOREIGN KEY (unknown_phrase_id) REFERENCES unknown_phrases (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS book_review_words (
+    book_id         BIGINT NOT NULL,
+    unknown_word_id BIGINT NOT NULL,
+    CONSTRAINT fk_book_review_words_book FOREIGN KEY (book_id) REFERENCES books (id),
+    CONSTRAINT fk_book_review_words_word FOREIGN KEY (unknown_word_id) REFERENCES unknown_words (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS book_review_phrases (
+    book_id           BIGINT NOT NULL,
+    unknown_phrase_id BIGINT NOT NULL,
+    CONSTRAINT fk_book_review_phrases_book FOREIGN KEY (book_id) REFERENCES books (id),
+    CONSTRAINT fk_book_review_phrases_phrase FOREIGN KEY (unknown_phrase_id) REFERENCES unknown_phrases (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
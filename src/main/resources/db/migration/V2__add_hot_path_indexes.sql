@@ -0,0 +1,13 @@
+-- Review candidates: WHERE user_id = ? AND next_review_date <= ? ORDER BY next_review_date LIMIT 5
+CREATE INDEX idx_unknown_words_user_review ON unknown_words (user_id, next_review_date);
+CREATE INDEX idx_unknown_phrases_user_review ON unknown_phrases (user_id, next_review_date);
+
+-- Ready-book pool: count and oldest-first lookup of unprovisioned books, covered without touching rows
+CREATE INDEX idx_books_user_provision ON books (user_id, is_provision, created_at);
+
+-- Completed library: offset listing by created_at and keyset scrolling by (completed_at, id)
+CREATE INDEX idx_books_user_completed_created ON books (user_id, is_completed, created_at);
+CREATE INDEX idx_books_user_completed_at ON books (user_id, is_completed, completed_at, id);
+
+-- Keyset cursors cannot seek past NULL completion timestamps
+UPDATE books SET completed_at = created_at WHERE is_completed = TRUE AND completed_at IS NULL;
@@ -0,0 +1,9 @@
+ALTER TABLE unknown_words
+    ADD COLUMN last_review_date DATE,
+    ADD COLUMN stability DOUBLE,
+    ADD COLUMN difficulty DOUBLE;
+
+ALTER TABLE unknown_phrases
+    ADD COLUMN last_review_date DATE,
+    ADD COLUMN stability DOUBLE,
+    ADD COLUMN difficulty DOUBLE;
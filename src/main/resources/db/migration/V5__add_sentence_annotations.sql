@@ -0,0 +1,2 @@
+ALTER TABLE sentences
+    ADD COLUMN annotations TEXT;
@@ -17,12 +17,7 @@ import com.finale.finale.auth.repository.OAuthProviderRepository;
 import com.finale.finale.auth.repository.RefreshTokenRepository;
 import com.finale.finale.auth.repository.UserRepository;
 import com.finale.finale.book.repository.BookRepository;
-import com.finale.finale.book.repository.PhraseRepository;
-import com.finale.finale.book.repository.QuizRepository;
-import com.finale.finale.book.repository.SentenceRepository;
-import com.finale.finale.book.repository.UnknownPhraseRepository;
-import com.finale.finale.book.repository.UnknownWordRepository;
-import com.finale.finale.book.repository.WordRepository;
+import com.finale.finale.book.service.BookPurgeService;
 import com.finale.finale.book.service.DefaultBookInjectionService;
 import com.finale.finale.config.JwtTokenProvider;
 import com.finale.finale.exception.CustomException;
@@ -34,9 +29,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -72,22 +71,7 @@ public class AuthServiceTest {
     private BookRepository bookRepository;
 
     @Mock
-    private SentenceRepository sentenceRepository;
-
-    @Mock
-    private QuizRepository quizRepository;
-
-    @Mock
-    private UnknownWordRepository unknownWordRepository;
-
-    @Mock
-    private UnknownPhraseRepository unknownPhraseRepository;
-
-    @Mock
-    private PhraseRepository phraseRepository;
-
-    @Mock
-    private WordRepository wordRepository;
+    private BookPurgeService bookPurgeService;
 
     @Mock
     private DefaultBookInjectionService defaultBookInjectionService;
@@ -98,6 +82,7 @@ public class AuthServiceTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(authService, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.setField(authService, "asyncWithdrawThreshold", 200L);
     }
 
     @Test
@@ -105,6 +90,7 @@ public class AuthServiceTest {
     void loginNewUser() {
         // Given
         ReflectionTestUtils.setField(authService, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.setField(authService, "asyncWithdrawThreshold", 200L);
 
         LoginRequest request = new LoginRequest("GOOGLE", "id-token", null);
         OAuth2UserInfo userInfo = new OAuth2UserInfo(
@@ -143,6 +129,7 @@ public class AuthServiceTest {
     void loginExistingUser() {
         // Given
         ReflectionTestUtils.setField(authService, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.setField(authService, "asyncWithdrawThreshold", 200L);
 
         LoginRequest request = new LoginRequest("GOOGLE", "id-token", null);
         OAuth2UserInfo userInfo = new OAuth2UserInfo(
@@ -182,6 +169,7 @@ public class AuthServiceTest {
         User user = new User("test@example.com");
         ReflectionTestUtils.setField(user, "id", 1L);
         ReflectionTestUtils.setField(authService, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.setField(authService, "asyncWithdrawThreshold", 200L);
 
         RefreshToken oldToken = new RefreshToken(
                 user,
@@ -335,20 +323,50 @@ public class AuthServiceTest {
         OAuthProvider oauthProvider = new OAuthProvider(user, "GOOGLE", "google-123");
 
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(bookRepository.findAllByUser(user)).willReturn(java.util.List.of());
+        given(bookRepository.countByUser_Id(1L)).willReturn(2L);
+        given(bookRepository.findIdsByUserId(1L, Pageable.unpaged())).willReturn(List.of(10L, 11L));
         given(oauthProviderRepository.findByUser(user)).willReturn(Optional.of(oauthProvider));
 
         // When
         authService.withdraw(1L);
 
         // Then
-        verify(unknownWordRepository).deleteAllByUserId(1L);
-        verify(bookRepository).deleteAll(any());
+        verify(bookPurgeService).purge(List.of(10L, 11L));
         verify(oauthProviderRepository).delete(oauthProvider);
         verify(refreshTokenRepository).deleteByUser(user);
         verify(userRepository).delete(user);
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 - 책이 많으면 커밋 후 비동기로 삭제")
+    void withdrawLargeAccountAsync() {
+        // Given
+        User user = new User("test@example.com");
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(bookRepository.countByUser_Id(1L)).willReturn(500L);
+        given(oauthProviderRepository.findByUser(user)).willReturn(Optional.empty());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            authService.withdraw(1L);
+
+            // Then
+            assertThat(user.getEmail()).isEqualTo("withdrawn:1:test@example.com");
+            assertThat(user.getWithdrawnAt()).isNotNull();
+            verify(bookPurgeService, never()).purgeUserAsync(1L);
+            verify(userRepository, never()).delete(user);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            verify(bookPurgeService).purgeUserAsync(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     @DisplayName("닉네임 중복 확인 - 사용 가능")
     void checkNicknameAvailable() {
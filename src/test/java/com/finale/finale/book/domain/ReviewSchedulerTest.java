@@ -0,0 +1,84 @@
+package com.finale.finale.book.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ReviewScheduler 테스트")
+class ReviewSchedulerTest {
+
+    private final LocalDate today = LocalDate.of(2025, 3, 1);
+
+    @Test
+    @DisplayName("고정 간격 - 복습 횟수별 기본 간격의 ±10% 안에서 다음 복습일 결정")
+    void fixedIntervalWithinJitter() {
+        FixedIntervalReviewScheduler scheduler = new FixedIntervalReviewScheduler();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(scheduler.intervalDays(0)).isEqualTo(1);
+            assertThat(scheduler.intervalDays(4)).isBetween(27, 33);
+            assertThat(scheduler.intervalDays(99)).isBetween(2640, 3226);
+        }
+    }
+
+    @Test
+    @DisplayName("FSRS - 첫 복습은 등급별 초기 안정도와 난이도로 설정")
+    void fsrsFirstReviewInitializesMemoryState() {
+        // Given
+        FsrsReviewScheduler scheduler = new FsrsReviewScheduler(0.9, 36500);
+        UnknownWord word = newWord();
+
+        // When
+        word.nextReviewSetting(scheduler, ReviewGrade.GOOD, today);
+
+        // Then
+        assertThat(word.getStability()).isEqualTo(2.4);
+        assertThat(word.getDifficulty()).isCloseTo(4.93, within(1e-9));
+        assertThat(word.getLastReviewDate()).isEqualTo(today);
+        assertThat(word.getNextReviewDate()).isEqualTo(today.plusDays(2));
+        assertThat(word.getReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("FSRS - 기억에 성공하면 안정도가 커지고 잊으면 줄어듦")
+    void fsrsStabilityGrowsOnRecallAndShrinksOnLapse() {
+        // Given
+        FsrsReviewScheduler scheduler = new FsrsReviewScheduler(0.9, 36500);
+        UnknownWord recalled = newWord();
+        UnknownWord forgotten = newWord();
+        recalled.nextReviewSetting(scheduler, ReviewGrade.GOOD, today);
+        forgotten.nextReviewSetting(scheduler, ReviewGrade.GOOD, today);
+
+        // When
+        recalled.nextReviewSetting(scheduler, ReviewGrade.GOOD, today.plusDays(3));
+        forgotten.nextReviewSetting(scheduler, ReviewGrade.AGAIN, today.plusDays(3));
+
+        // Then
+        assertThat(recalled.getStability()).isGreaterThan(2.4);
+        assertThat(forgotten.getStability()).isLessThan(2.4);
+        assertThat(forgotten.getDifficulty()).isGreaterThan(recalled.getDifficulty());
+        assertThat(recalled.getNextReviewDate()).isAfter(forgotten.getNextReviewDate());
+    }
+
+    @Test
+    @DisplayName("FSRS - 목표 기억률 90%에서는 간격이 안정도와 같음")
+    void fsrsIntervalMatchesStabilityAtNinetyPercent() {
+        FsrsReviewScheduler scheduler = new FsrsReviewScheduler(0.9, 36500);
+
+        assertThat(scheduler.intervalDays(10.0)).isEqualTo(10);
+        assertThat(scheduler.retrievability(10, 10.0)).isCloseTo(0.9, within(1e-9));
+        assertThat(scheduler.intervalDays(1_000_000.0)).isEqualTo(36500);
+    }
+
+    private UnknownWord newWord() {
+        return new UnknownWord(
+                null, null, "example", "예시",
+                "This is an example.", "이것은 예시입니다.",
+                1L, 8, 7, today
+        );
+    }
+}
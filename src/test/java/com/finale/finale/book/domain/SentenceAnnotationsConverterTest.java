@@ -0,0 +1,51 @@
+package com.finale.finale.book.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SentenceAnnotationsConverter 테스트")
+public class SentenceAnnotationsConverterTest {
+
+    private final SentenceAnnotationsConverter converter = new SentenceAnnotationsConverter();
+
+    @Test
+    @DisplayName("단어와 구문 주석을 짧은 키의 JSON으로 저장하고 복원")
+    void roundTrip() {
+        // Given
+        Sentence sentence = new Sentence(null, 1, 1, "She looked up.", "그녀는 올려다봤다.");
+        Phrase phrase = new Phrase(sentence, "올려다보다");
+        phrase.addPhraseWord(new PhraseWord(phrase, "looked", 4));
+        phrase.addPhraseWord(new PhraseWord(phrase, "up", 11));
+        SentenceAnnotations annotations = new SentenceAnnotations(
+                List.of(new Word(sentence, "looked", "보다", 4)),
+                List.of(phrase)
+        );
+
+        // When
+        String column = converter.convertToDatabaseColumn(annotations);
+        SentenceAnnotations restored = converter.convertToEntityAttribute(column);
+
+        // Then
+        assertThat(column).isEqualTo("{\"w\":[{\"w\":\"looked\",\"m\":\"보다\",\"l\":4}],"
+                + "\"p\":[{\"m\":\"올려다보다\",\"e\":[{\"w\":\"looked\",\"l\":4},{\"w\":\"up\",\"l\":11}]}]}");
+        assertThat(restored.words())
+                .extracting(Word::getWord, Word::getMeaning, Word::getLocation, Word::getLength)
+                .containsExactly(tuple("looked", "보다", 4, 6));
+        assertThat(restored.phrases().get(0).getExpression())
+                .extracting(PhraseWord::getWord, PhraseWord::getLocation, PhraseWord::getLength)
+                .containsExactly(tuple("looked", 4, 6), tuple("up", 11, 2));
+    }
+
+    @Test
+    @DisplayName("주석이 없으면 NULL로 저장하고 빈 주석으로 복원")
+    void emptyAnnotations() {
+        // When & Then
+        assertThat(converter.convertToDatabaseColumn(SentenceAnnotations.empty())).isNull();
+        assertThat(converter.convertToEntityAttribute(null).words()).isEmpty();
+        assertThat(converter.convertToEntityAttribute(null).phrases()).isEmpty();
+    }
+}
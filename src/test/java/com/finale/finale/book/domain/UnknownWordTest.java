@@ -51,4 +51,15 @@ public class UnknownWordTest {
         assertThat(word.getReviewCount()).isEqualTo(5);
         assertThat(word.getNextReviewDate()).isAfter(LocalDate.now());
     }
+
+    @Test
+    @DisplayName("표제어 정규화 - 대소문자, 앞뒤 문장부호, 소유격을 제거")
+    void lemmaOfNormalizesWord() {
+        // When & Then
+        assertThat(UnknownWord.lemmaOf("Example")).isEqualTo("example");
+        assertThat(UnknownWord.lemmaOf("\"example,\"")).isEqualTo("example");
+        assertThat(UnknownWord.lemmaOf("Mina's")).isEqualTo("mina");
+        assertThat(UnknownWord.lemmaOf("Mina’s.")).isEqualTo("mina");
+        assertThat(UnknownWord.lemmaOf("well-known")).isEqualTo("well-known");
+    }
 }
@@ -0,0 +1,114 @@
+package com.finale.finale.book.repository;
+
+import com.finale.finale.auth.domain.User;
+import com.finale.finale.book.domain.Book;
+import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.domain.UnknownPhrase;
+import com.finale.finale.book.domain.UnknownWord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("핫 경로 쿼리 실행 계획 테스트 (MySQL)")
+class BookQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        for (int u = 0; u < 3; u++) {
+            User user = entityManager.persist(new User("plan" + u + "@example.com"));
+            userId = user.getId();
+
+            for (int b = 0; b < 40; b++) {
+                Book book = new Book(user, "Book " + b, BookCategory.ADVENTURE, 500, 600);
+                if (b % 2 == 0) {
+                    book.markAsProvision();
+                    book.markAsCompleted();
+                    book.setCompletedAt();
+                }
+                entityManager.persist(book);
+
+                LocalDate nextReviewDate = LocalDate.of(2025, 1, 1).plusDays(b);
+                entityManager.persist(new UnknownWord(user, book, "word" + b, "단어", "A word.", "단어.", 1L, 2, 4, nextReviewDate));
+                entityManager.persist(new UnknownPhrase(user, book, "a word", "단어", "A word.", "단어.", 1L, nextReviewDate));
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("복습 단어 조회 - (user_id, next_review_date) 인덱스로 범위 탐색")
+    void reviewWordsUseUserReviewIndex() {
+        String plan = explain("SELECT id FROM unknown_words WHERE user_id = " + userId
+                + " AND next_review_date <= DATE '2025-01-20' ORDER BY next_review_date LIMIT 5");
+
+        assertThat(plan).containsIgnoringCase("idx_unknown_words_user_review");
+    }
+
+    @Test
+    @DisplayName("복습 표현 조회 - (user_id, next_review_date) 인덱스로 범위 탐색")
+    void reviewPhrasesUseUserReviewIndex() {
+        String plan = explain("SELECT id FROM unknown_phrases WHERE user_id = " + userId
+                + " AND next_review_date <= DATE '2025-01-20' ORDER BY next_review_date LIMIT 5");
+
+        assertThat(plan).containsIgnoringCase("idx_unknown_phrases_user_review");
+    }
+
+    @Test
+    @DisplayName("미제공 책 수와 다음 책 조회 - (user_id, is_provision, created_at) 인덱스 사용")
+    void readyBooksUseProvisionIndex() {
+        String countPlan = explain("SELECT COUNT(*) FROM books WHERE user_id = " + userId + " AND is_provision = FALSE");
+        String firstPlan = explain("SELECT id FROM books WHERE user_id = " + userId
+                + " AND is_provision = FALSE ORDER BY created_at LIMIT 1");
+
+        assertThat(countPlan).containsIgnoringCase("idx_books_user_provision");
+        assertThat(firstPlan).containsIgnoringCase("idx_books_user_provision");
+    }
+
+    @Test
+    @DisplayName("완료한 책 목록 - 오프셋은 created_at, 커서는 (completed_at, id) 인덱스 사용")
+    void completedBooksUseCompletedIndexes() {
+        String offsetPlan = explain("SELECT id FROM books WHERE user_id = " + userId
+                + " AND is_completed = TRUE ORDER BY created_at DESC LIMIT 10 OFFSET 10");
+        String keysetPlan = explain("SELECT id FROM books WHERE user_id = " + userId
+                + " AND is_completed = TRUE ORDER BY completed_at DESC, id DESC LIMIT 11");
+
+        assertThat(offsetPlan).containsIgnoringCase("idx_books_user_completed");
+        assertThat(keysetPlan).containsIgnoringCase("idx_books_user_completed");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN FORMAT=TREE " + sql, String.class);
+    }
+}
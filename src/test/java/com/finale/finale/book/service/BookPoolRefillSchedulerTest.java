@@ -0,0 +1,82 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookPoolRefillScheduler 테스트")
+class BookPoolRefillSchedulerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StoryGenerationDispatcher storyGenerationDispatcher;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    @InjectMocks
+    private BookPoolRefillScheduler bookPoolRefillScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bookPoolRefillScheduler, "lowWatermark", 1);
+        ReflectionTestUtils.setField(bookPoolRefillScheduler, "activeDays", 7);
+        ReflectionTestUtils.setField(bookPoolRefillScheduler, "refillBatchSize", 50);
+    }
+
+    @Test
+    @DisplayName("풀 보충 - 활동 순서대로 생성 요청")
+    void refillInActivityOrder() {
+        // Given
+        given(redisLockService.tryLock(anyString(), anyLong(), anyLong())).willReturn(true);
+        given(userRepository.findPoolRefillCandidateIds(eq(LocalDate.now().minusDays(7)), eq(1L), any(Pageable.class)))
+                .willReturn(List.of(3L, 1L, 2L));
+
+        // When
+        bookPoolRefillScheduler.refill();
+
+        // Then
+        InOrder inOrder = inOrder(storyGenerationDispatcher);
+        inOrder.verify(storyGenerationDispatcher).dispatch(3L);
+        inOrder.verify(storyGenerationDispatcher).dispatch(1L);
+        inOrder.verify(storyGenerationDispatcher).dispatch(2L);
+        verify(redisLockService).unlock("book-pool-refill");
+    }
+
+    @Test
+    @DisplayName("풀 보충 - 다른 인스턴스가 실행 중이면 건너뜀")
+    void refillSkippedWhenLocked() {
+        // Given
+        given(redisLockService.tryLock(anyString(), anyLong(), anyLong())).willReturn(false);
+
+        // When
+        bookPoolRefillScheduler.refill();
+
+        // Then
+        verify(userRepository, never()).findPoolRefillCandidateIds(any(), anyLong(), any());
+        verify(storyGenerationDispatcher, never()).dispatch(anyLong());
+    }
+}
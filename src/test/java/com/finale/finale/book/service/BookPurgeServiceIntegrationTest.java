@@ -0,0 +1,83 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.domain.User;
+import com.finale.finale.book.domain.Book;
+import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.domain.UnknownWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(BookPurgeService.class)
+@DisplayName("BookPurgeService 통합 테스트 (MySQL)")
+class BookPurgeServiceIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private BookPurgeService bookPurgeService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("일괄 삭제 - 다른 책에도 등장한 단어는 남은 책의 복습 연결을 유지")
+    void purgeKeepsReviewLinkOfRemainingBook() {
+        // Given
+        User user = entityManager.persist(new User("purge@example.com"));
+        Book bookA = entityManager.persist(new Book(user, "Book A", BookCategory.ADVENTURE, 500, 600));
+        Book bookB = entityManager.persist(new Book(user, "Book B", BookCategory.ADVENTURE, 500, 600));
+        UnknownWord word = entityManager.persist(
+                new UnknownWord(user, bookA, "apple", "사과", "An apple.", "사과.", 1L, 3, 5, LocalDate.of(2025, 1, 1)));
+        entityManager.flush();
+
+        insertOccurrence(word.getId(), bookA.getId(), 1L);
+        insertOccurrence(word.getId(), bookB.getId(), 2L);
+        jdbcTemplate.update("INSERT INTO book_review_words (book_id, unknown_word_id) VALUES (?, ?)",
+                bookB.getId(), word.getId());
+
+        // When
+        bookPurgeService.purge(List.of(bookA.getId()));
+
+        // Then
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT unknown_word_id FROM book_review_words WHERE book_id = ?", Long.class, bookB.getId()))
+                .containsExactly(word.getId());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT book_id FROM unknown_words WHERE id = ?", Long.class, word.getId()))
+                .isEqualTo(bookB.getId());
+    }
+
+    private void insertOccurrence(Long wordId, Long bookId, Long sentenceId) {
+        jdbcTemplate.update("INSERT INTO unknown_word_occurrences "
+                        + "(unknown_word_id, book_id, sentence_id, sentence, sentence_meaning, location, length) "
+                        + "VALUES (?, ?, ?, 'An apple.', '사과.', 3, 5)",
+                wordId, bookId, sentenceId);
+    }
+}
@@ -0,0 +1,114 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.repository.UserRepository;
+import com.finale.finale.book.repository.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookPurgeService 테스트")
+class BookPurgeServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private SentenceRepository sentenceRepository;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private UnknownWordRepository unknownWordRepository;
+
+    @Mock
+    private UnknownPhraseRepository unknownPhraseRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private BookPurgeService bookPurgeService;
+
+    @Test
+    @DisplayName("일괄 삭제 - 외래 키 순서대로 책 단위 삭제 쿼리 실행")
+    void purgeInForeignKeyOrder() {
+        // Given
+        List<Long> bookIds = List.of(1L, 2L);
+
+        // When
+        bookPurgeService.purge(bookIds);
+
+        // Then
+        InOrder inOrder = inOrder(
+                bookRepository, unknownPhraseRepository, unknownWordRepository, sentenceRepository, quizRepository
+        );
+        inOrder.verify(bookRepository).deleteReviewWordsByBookIdIn(bookIds);
+        inOrder.verify(bookRepository).deleteReviewPhrasesByBookIdIn(bookIds);
+        inOrder.verify(unknownPhraseRepository).deleteWordsByBookIdIn(bookIds);
+        inOrder.verify(unknownPhraseRepository).deleteAllByBookIdIn(bookIds);
+        inOrder.verify(unknownWordRepository).deleteOccurrencesByBookIdIn(bookIds);
+        inOrder.verify(unknownWordRepository).moveToLatestOccurrenceByBookIdIn(bookIds);
+        inOrder.verify(unknownWordRepository).deleteReviewLinksByBookIdIn(bookIds);
+        inOrder.verify(unknownWordRepository).deleteAllByBookIdIn(bookIds);
+        inOrder.verify(sentenceRepository).deleteAllByBookIdIn(bookIds);
+        inOrder.verify(quizRepository).deleteAllByBookIdIn(bookIds);
+        inOrder.verify(bookRepository).deleteAllByIdIn(bookIds);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 빈 목록이면 쿼리를 실행하지 않음")
+    void purgeEmpty() {
+        // When
+        bookPurgeService.purge(List.of());
+
+        // Then
+        verify(bookRepository, never()).deleteAllByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("비동기 탈퇴 - 청크 단위로 책을 삭제한 뒤 사용자 삭제")
+    void purgeUserAsyncInChunks() {
+        // Given
+        ReflectionTestUtils.setField(bookPurgeService, "chunkSize", 2);
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(bookRepository.findIdsByUserId(1L, PageRequest.of(0, 2)))
+                .willReturn(List.of(10L, 11L), List.of(12L));
+
+        // When
+        bookPurgeService.purgeUserAsync(1L);
+
+        // Then
+        InOrder inOrder = inOrder(bookRepository, userRepository);
+        inOrder.verify(bookRepository).deleteAllByIdIn(List.of(10L, 11L));
+        inOrder.verify(bookRepository).deleteAllByIdIn(List.of(12L));
+        inOrder.verify(userRepository).deleteById(1L);
+    }
+}
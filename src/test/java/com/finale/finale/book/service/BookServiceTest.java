@@ -5,8 +5,10 @@ import com.finale.finale.auth.repository.UserRepository;
 import com.finale.finale.book.domain.*;
 import com.finale.finale.book.dto.response.CompletedBookDetailResponse;
 import com.finale.finale.book.dto.response.CompletedBooksResponse;
+import com.finale.finale.book.dto.response.CompletedBooksScrollResponse;
 import com.finale.finale.book.dto.response.StoryGenerationResponse;
 import com.finale.finale.book.repository.BookRepository;
+import com.finale.finale.book.repository.BookWordOccurrence;
 import com.finale.finale.book.repository.QuizRepository;
 import com.finale.finale.book.repository.SentenceRepository;
 import com.finale.finale.book.repository.UnknownPhraseRepository;
@@ -20,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -37,8 +40,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
-import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,16 +60,25 @@ class BookServiceTest {
     private QuizRepository quizRepository;
 
     @Mock
-    private com.finale.finale.book.repository.WordRepository wordRepository;
+    private UnknownWordRepository unknownWordRepository;
 
     @Mock
-    private com.finale.finale.book.repository.PhraseRepository phraseRepository;
+    private UnknownPhraseRepository unknownPhraseRepository;
 
     @Mock
-    private UnknownWordRepository unknownWordRepository;
+    private BookPurgeService bookPurgeService;
 
     @Mock
-    private UnknownPhraseRepository unknownPhraseRepository;
+    private StoryPayloadCache storyPayloadCache;
+
+    @Mock
+    private CompletedBookDetailCache completedBookDetailCache;
+
+    @Mock
+    private CompletedBookCountCache completedBookCountCache;
+
+    @Mock
+    private ReviewQueue reviewQueue;
 
     @Spy
     private StoryResponseAssembler storyResponseAssembler;
@@ -89,13 +100,13 @@ class BookServiceTest {
         User user = new User("test@example.com");
         Book book = new Book(user, "Test Book", BookCategory.ADVENTURE, 800, 1000);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(bookRepository.findFirstByUserAndIsProvisionFalseWithReviewWords(user))
-                .willReturn(Optional.of(book));
+        ReflectionTestUtils.setField(book, "id", 10L);
+
+        given(bookRepository.findFirstReadyBookId(userId)).willReturn(Optional.of(10L));
+        given(storyPayloadCache.get(10L)).willReturn(Optional.empty());
+        given(bookRepository.findByIdWithReviewWords(10L)).willReturn(Optional.of(book));
         given(sentenceRepository.findAllByBook(book)).willReturn(List.of());
         given(quizRepository.findAllByBook(book)).willReturn(List.of());
-        given(wordRepository.findAllBySentenceIn(List.of())).willReturn(List.of());
-        given(phraseRepository.findAllBySentenceIn(List.of())).willReturn(List.of());
 
         // When
         StoryGenerationResponse response = bookService.getNewStory(userId);
@@ -110,11 +121,8 @@ class BookServiceTest {
     void getNewStoryFailBookNotReady() {
         // Given
         Long userId = 1L;
-        User user = new User("test@example.com");
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(bookRepository.findFirstByUserAndIsProvisionFalseWithReviewWords(user))
-                .willReturn(Optional.empty());
+        given(bookRepository.findFirstReadyBookId(userId)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> bookService.getNewStory(userId))
@@ -122,6 +130,30 @@ class BookServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BOOK_NOT_READY);
     }
 
+    @Test
+    @DisplayName("getNewStory 성공 - 캐시된 응답이 있으면 조립 없이 반환하고 isProvision만 갱신")
+    void getNewStoryFromCache() {
+        // Given
+        Long userId = 1L;
+        StoryGenerationResponse cached = new StoryGenerationResponse(
+                10L, "Test Book", "ADVENTURE", 800, 1000,
+                List.of(), List.of(), List.of(), List.of(), null
+        );
+
+        given(bookRepository.findFirstReadyBookId(userId)).willReturn(Optional.of(10L));
+        given(storyPayloadCache.get(10L)).willReturn(Optional.of(cached));
+
+        // When
+        StoryGenerationResponse response = bookService.getNewStory(userId);
+
+        // Then
+        assertThat(response).isSameAs(cached);
+        verify(bookRepository).markAsProvision(10L);
+        verify(storyPayloadCache).evict(10L);
+        verify(bookRepository, never()).findByIdWithReviewWords(10L);
+        verify(sentenceRepository, never()).findAllByBook(any());
+    }
+
     @Test
     @DisplayName("getNewStory 성공 - Word와 Phrase가 포함된 Response 반환")
     void getNewStoryWithWordAndPhrase() {
@@ -140,14 +172,15 @@ class BookServiceTest {
         PhraseWord phraseWord2 = new PhraseWord(phrase, "up", 11);
         phrase.addPhraseWord(phraseWord1);
         phrase.addPhraseWord(phraseWord2);
+        sentence.annotate(List.of(word1, word2), List.of(phrase));
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(bookRepository.findFirstByUserAndIsProvisionFalseWithReviewWords(user))
-                .willReturn(Optional.of(book));
+        ReflectionTestUtils.setField(book, "id", 10L);
+
+        given(bookRepository.findFirstReadyBookId(userId)).willReturn(Optional.of(10L));
+        given(storyPayloadCache.get(10L)).willReturn(Optional.empty());
+        given(bookRepository.findByIdWithReviewWords(10L)).willReturn(Optional.of(book));
         given(sentenceRepository.findAllByBook(book)).willReturn(List.of(sentence));
         given(quizRepository.findAllByBook(book)).willReturn(List.of());
-        given(wordRepository.findAllBySentenceIn(List.of(sentence))).willReturn(List.of(word1, word2));
-        given(phraseRepository.findAllBySentenceIn(List.of(sentence))).willReturn(List.of(phrase));
 
         // When
         StoryGenerationResponse response = bookService.getNewStory(userId);
@@ -160,28 +193,30 @@ class BookServiceTest {
     }
 
     @Test
-    @DisplayName("getNewStory 성공 - 조회 후 Word와 Phrase 삭제")
-    void getNewStoryDeleteWordAndPhrase() {
+    @DisplayName("getNewStory 성공 - 문장 주석은 한 번의 조회로 읽고 삭제하지 않음")
+    void getNewStoryKeepsAnnotations() {
         // Given
         Long userId = 1L;
         User user = new User("test@example.com");
         Book book = new Book(user, "Test Book", BookCategory.ADVENTURE, 800, 1000);
         Sentence sentence = new Sentence(book, 1, 1, "Test sentence.", "테스트 문장.");
+        sentence.annotate(List.of(new Word(sentence, "Test", "테스트", 0)), List.of());
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(bookRepository.findFirstByUserAndIsProvisionFalseWithReviewWords(user))
-                .willReturn(Optional.of(book));
+        ReflectionTestUtils.setField(book, "id", 10L);
+
+        given(bookRepository.findFirstReadyBookId(userId)).willReturn(Optional.of(10L));
+        given(storyPayloadCache.get(10L)).willReturn(Optional.empty());
+        given(bookRepository.findByIdWithReviewWords(10L)).willReturn(Optional.of(book));
         given(sentenceRepository.findAllByBook(book)).willReturn(List.of(sentence));
         given(quizRepository.findAllByBook(book)).willReturn(List.of());
-        given(wordRepository.findAllBySentenceIn(List.of(sentence))).willReturn(List.of());
-        given(phraseRepository.findAllBySentenceIn(List.of(sentence))).willReturn(List.of());
 
         // When
-        bookService.getNewStory(userId);
+        StoryGenerationResponse response = bookService.getNewStory(userId);
 
         // Then
-        verify(wordRepository).deleteAllBySentence(sentence);
-        verify(phraseRepository).deleteAllBySentence(sentence);
+        assertThat(response.sentences().get(0).words()).hasSize(1);
+        assertThat(sentence.getAnnotations().words()).hasSize(1);
+        verify(sentenceRepository, never()).deleteAllByBook(book);
     }
 
     @Test
@@ -208,7 +243,7 @@ class BookServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findCompletedBooks(eq(user), eq(null), eq(null), any(Pageable.class)))
                 .willReturn(bookPage);
-        given(unknownWordRepository.findAllByBookIdIn(List.of(2L, 1L))).willReturn(Collections.emptyList());
+        given(unknownWordRepository.findOccurrencesByBookIdIn(List.of(2L, 1L))).willReturn(Collections.emptyList());
         given(unknownPhraseRepository.findAllByBookIdIn(List.of(2L, 1L))).willReturn(Collections.emptyList());
 
         // When
@@ -245,7 +280,7 @@ class BookServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findCompletedBooks(eq(user), eq(BookCategory.ADVENTURE), eq(null), any(Pageable.class)))
                 .willReturn(bookPage);
-        given(unknownWordRepository.findAllByBookIdIn(List.of(1L))).willReturn(Collections.emptyList());
+        given(unknownWordRepository.findOccurrencesByBookIdIn(List.of(1L))).willReturn(Collections.emptyList());
         given(unknownPhraseRepository.findAllByBookIdIn(List.of(1L))).willReturn(Collections.emptyList());
 
         // When
@@ -277,7 +312,7 @@ class BookServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findCompletedBooks(eq(user), eq(null), eq(true), any(Pageable.class)))
                 .willReturn(bookPage);
-        given(unknownWordRepository.findAllByBookIdIn(List.of(1L))).willReturn(Collections.emptyList());
+        given(unknownWordRepository.findOccurrencesByBookIdIn(List.of(1L))).willReturn(Collections.emptyList());
         given(unknownPhraseRepository.findAllByBookIdIn(List.of(1L))).willReturn(Collections.emptyList());
 
         // When
@@ -314,7 +349,7 @@ class BookServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findCompletedBooks(eq(user), eq(null), eq(null), any(Pageable.class)))
                 .willReturn(bookPage);
-        given(unknownWordRepository.findAllByBookIdIn(List.of(1L, 2L))).willReturn(Collections.emptyList());
+        given(unknownWordRepository.findOccurrencesByBookIdIn(List.of(1L, 2L))).willReturn(Collections.emptyList());
         given(unknownPhraseRepository.findAllByBookIdIn(List.of(1L, 2L))).willReturn(Collections.emptyList());
 
         // When
@@ -362,7 +397,8 @@ class BookServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findCompletedBooks(eq(user), eq(null), eq(null), any(Pageable.class)))
                 .willReturn(bookPage);
-        given(unknownWordRepository.findAllByBookIdIn(List.of(1L))).willReturn(List.of(word1, word2));
+        given(unknownWordRepository.findOccurrencesByBookIdIn(List.of(1L)))
+                .willReturn(List.of(new BookWordOccurrence(word1, word1.toOccurrence()), new BookWordOccurrence(word2, word2.toOccurrence())));
         given(unknownPhraseRepository.findAllByBookIdIn(List.of(1L))).willReturn(Collections.emptyList());
 
         // When
@@ -377,6 +413,51 @@ class BookServiceTest {
         assertThat(response.content().get(0).unknownWords().get(1).word()).isEqualTo("test");
     }
 
+    @Test
+    @DisplayName("getCompletedBooks 성공 - 이후 책에서 다시 학습한 단어도 처음 등장한 책에 그대로 표시")
+    void getCompletedBooksKeepsRelearnedWordsOnEarlierBooks() {
+        // Given
+        Long userId = 1L;
+        User user = new User("test@example.com");
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        Book earlier = new Book(user, "Earlier", BookCategory.ADVENTURE, 800, 1000);
+        ReflectionTestUtils.setField(earlier, "id", 1L);
+        ReflectionTestUtils.setField(earlier, "isCompleted", true);
+        Book later = new Book(user, "Later", BookCategory.ADVENTURE, 800, 1000);
+        ReflectionTestUtils.setField(later, "id", 2L);
+
+        UnknownWord word = new UnknownWord(
+                user, earlier, "example", "예시",
+                "This is an example.", "이것은 예시입니다.",
+                1L, 11, 7, LocalDate.now()
+        );
+        ReflectionTestUtils.setField(word, "id", 1L);
+        WordOccurrence firstSeen = word.toOccurrence();
+        word.relearn(later, "보기", "Another example.", "또 다른 예시.", 9L, 8, 7);
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<Book> bookPage = new PageImpl<>(List.of(earlier), pageable, 1);
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(bookRepository.findCompletedBooks(eq(user), eq(null), eq(null), any(Pageable.class)))
+                .willReturn(bookPage);
+        given(unknownWordRepository.findOccurrencesByBookIdIn(List.of(1L)))
+                .willReturn(List.of(new BookWordOccurrence(word, firstSeen)));
+        given(unknownPhraseRepository.findAllByBookIdIn(List.of(1L))).willReturn(Collections.emptyList());
+
+        // When
+        CompletedBooksResponse response = bookService.getCompletedBooks(
+                userId, 0, 10, "latest", null, null
+        );
+
+        // Then
+        assertThat(response.content().get(0).unknownWords()).hasSize(1);
+        assertThat(response.content().get(0).unknownWords().get(0).sentenceId()).isEqualTo(1L);
+        assertThat(response.content().get(0).unknownWords().get(0).sentence()).isEqualTo("This is an example.");
+        assertThat(response.content().get(0).unknownWords().get(0).wordMeaning()).isEqualTo("보기");
+    }
+
     @Test
     @DisplayName("getCompletedBooks 성공 - 빈 목록 (완료한 책 없음)")
     void getCompletedBooksEmpty() {
@@ -425,7 +506,7 @@ class BookServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findCompletedBooks(eq(user), eq(null), eq(null), any(Pageable.class)))
                 .willReturn(bookPage);
-        given(unknownWordRepository.findAllByBookIdIn(anyList())).willReturn(Collections.emptyList());
+        given(unknownWordRepository.findOccurrencesByBookIdIn(anyList())).willReturn(Collections.emptyList());
         given(unknownPhraseRepository.findAllByBookIdIn(anyList())).willReturn(Collections.emptyList());
 
         // When
@@ -478,7 +559,7 @@ class BookServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findCompletedBooks(eq(user), eq(null), eq(null), any(Pageable.class)))
                 .willReturn(bookPage);
-        given(unknownWordRepository.findAllByBookIdIn(List.of(1L, 2L))).willReturn(Collections.emptyList());
+        given(unknownWordRepository.findOccurrencesByBookIdIn(List.of(1L, 2L))).willReturn(Collections.emptyList());
         given(unknownPhraseRepository.findAllByBookIdIn(List.of(1L, 2L))).willReturn(Collections.emptyList());
 
         // When
@@ -489,6 +570,73 @@ class BookServiceTest {
         verify(unknownPhraseRepository).findAllByBookIdIn(List.of(1L, 2L));
     }
 
+    @Test
+    @DisplayName("getCompletedBooksScroll 성공 - size+1개를 조회해 다음 커서를 만들고 COUNT는 생략")
+    void getCompletedBooksScrollFirstPage() {
+        // Given
+        Long userId = 1L;
+        User user = new User("test@example.com");
+        LocalDateTime completedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        Book book1 = createCompletedBook(user, 3L, "Book 3");
+        Book book2 = createCompletedBook(user, 2L, "Book 2");
+        Book book3 = createCompletedBook(user, 1L, "Book 1");
+        ReflectionTestUtils.setField(book2, "completedAt", completedAt);
+
+        given(bookRepository.findCompletedBooksBefore(userId, null, null, null, null, Limit.of(3)))
+                .willReturn(List.of(book1, book2, book3));
+
+        // When
+        CompletedBooksScrollResponse response = bookService.getCompletedBooksScroll(
+                userId, null, 2, "latest", null, null, false
+        );
+
+        // Then
+        assertThat(response.content()).extracting(CompletedBooksResponse.CompletedBook::id).containsExactly(3L, 2L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(CompletedBookCursor.decode(response.nextCursor()))
+                .isEqualTo(new CompletedBookCursor(completedAt, 2L));
+        assertThat(response.totalElements()).isNull();
+        verify(bookRepository, never()).countCompletedBooks(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getCompletedBooksScroll 성공 - 커서 이후부터 조회하고 마지막 페이지는 커서 없음")
+    void getCompletedBooksScrollWithCursor() {
+        // Given
+        Long userId = 1L;
+        User user = new User("test@example.com");
+        LocalDateTime completedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String cursor = new CompletedBookCursor(completedAt, 2L).encode();
+
+        given(bookRepository.findCompletedBooksAfter(userId, BookCategory.COMEDY, true, completedAt, 2L, Limit.of(3)))
+                .willReturn(List.of(createCompletedBook(user, 5L, "Book 5")));
+        given(completedBookCountCache.get(eq(userId), eq(BookCategory.COMEDY), eq(true), any()))
+                .willReturn(3L);
+
+        // When
+        CompletedBooksScrollResponse response = bookService.getCompletedBooksScroll(
+                userId, cursor, 2, "oldest", "comedy", true, true
+        );
+
+        // Then
+        assertThat(response.content()).hasSize(1);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+        assertThat(response.totalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("getCompletedBooksScroll 실패 - 잘못된 커서면 INVALID_CURSOR_PARAMETER")
+    void getCompletedBooksScrollInvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> bookService.getCompletedBooksScroll(
+                1L, "not-a-cursor", 10, "latest", null, null, false
+        ))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR_PARAMETER);
+    }
+
     private Book createCompletedBook(User user, Long id, String title) {
         Book book = new Book(user, title, BookCategory.ADVENTURE, 800, 1000);
         ReflectionTestUtils.setField(book, "id", id);
@@ -533,9 +681,8 @@ class BookServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-        given(sentenceRepository.findAllByBook(book)).willReturn(List.of(sentence1, sentence2));
         given(quizRepository.findAllByBook(book)).willReturn(List.of(quiz1, quiz2));
-        given(unknownWordRepository.findAllByBook(book)).willReturn(List.of(word1));
+        given(unknownWordRepository.findOccurrencesByBookId(bookId)).willReturn(List.of(new BookWordOccurrence(word1, word1.toOccurrence())));
         given(unknownPhraseRepository.findAllByBook(book)).willReturn(Collections.emptyList());
 
         // When
@@ -554,6 +701,29 @@ class BookServiceTest {
         assertThat(response.quizzes().get(1).isCorrect()).isFalse();
         assertThat(response.unknownWords()).hasSize(1);
         assertThat(response.unknownWords().get(0).word()).isEqualTo("hello");
+        verify(completedBookDetailCache).put(userId, bookId, response);
+    }
+
+    @Test
+    @DisplayName("getCompletedBookDetail 성공 - 캐시된 상세가 있으면 DB를 조회하지 않음")
+    void getCompletedBookDetailFromCache() {
+        // Given
+        Long userId = 1L;
+        Long bookId = 1L;
+        CompletedBookDetailResponse cached = new CompletedBookDetailResponse(
+                bookId, "Test Book", "adventure", 800, LocalDateTime.now(),
+                List.of(), List.of(), List.of(), List.of()
+        );
+
+        given(completedBookDetailCache.get(userId, bookId)).willReturn(Optional.of(cached));
+
+        // When
+        CompletedBookDetailResponse response = bookService.getCompletedBookDetail(userId, bookId);
+
+        // Then
+        assertThat(response).isSameAs(cached);
+        verify(bookRepository, never()).findById(bookId);
+        verify(sentenceRepository, never()).findAllByBook(any());
     }
 
     @Test
@@ -634,7 +804,7 @@ class BookServiceTest {
     }
 
     @Test
-    @DisplayName("deleteBook 성공 - 책과 모든 연관 데이터 삭제")
+    @DisplayName("deleteBook 성공 - 책과 모든 연관 데이터를 일괄 삭제")
     void deleteBookSuccess() {
         // Given
         Long userId = 1L;
@@ -645,34 +815,15 @@ class BookServiceTest {
         Book book = new Book(user, "Test Book", BookCategory.ADVENTURE, 800, 1000);
         ReflectionTestUtils.setField(book, "id", bookId);
 
-        Sentence sentence1 = new Sentence(book, 1, 1, "Test sentence 1.", "테스트 문장 1.");
-        Sentence sentence2 = new Sentence(book, 1, 2, "Test sentence 2.", "테스트 문장 2.");
-
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-        given(sentenceRepository.findAllByBook(book)).willReturn(List.of(sentence1, sentence2));
-        willDoNothing().given(bookRepository).deleteAllReviewWordsByUnknownWordsOfBook(bookId);
-        willDoNothing().given(bookRepository).deleteAllReviewPhrasesByUnknownPhrasesOfBook(bookId);
-        willDoNothing().given(bookRepository).deleteReviewWordsByBookId(bookId);
-        willDoNothing().given(bookRepository).deleteReviewPhrasesByBookId(bookId);
 
         // When
         bookService.deleteBook(userId, bookId);
 
         // Then
-        verify(bookRepository).deleteAllReviewWordsByUnknownWordsOfBook(bookId);
-        verify(bookRepository).deleteAllReviewPhrasesByUnknownPhrasesOfBook(bookId);
-        verify(bookRepository).deleteReviewWordsByBookId(bookId);
-        verify(bookRepository).deleteReviewPhrasesByBookId(bookId);
-        verify(wordRepository).deleteAllBySentence(sentence1);
-        verify(wordRepository).deleteAllBySentence(sentence2);
-        verify(phraseRepository).deleteAllBySentence(sentence1);
-        verify(phraseRepository).deleteAllBySentence(sentence2);
-        verify(unknownWordRepository).deleteAllByBook(book);
-        verify(unknownPhraseRepository).deleteAllByBook(book);
-        verify(sentenceRepository).deleteAllByBook(book);
-        verify(quizRepository).deleteAllByBook(book);
-        verify(bookRepository).delete(book);
+        verify(bookPurgeService).purge(List.of(bookId));
+        verify(completedBookDetailCache).evict(userId, List.of(bookId));
     }
 
     @Test
@@ -744,64 +895,11 @@ class BookServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-        given(sentenceRepository.findAllByBook(book)).willReturn(List.of());
-        willDoNothing().given(bookRepository).deleteAllReviewWordsByUnknownWordsOfBook(bookId);
-        willDoNothing().given(bookRepository).deleteAllReviewPhrasesByUnknownPhrasesOfBook(bookId);
-        willDoNothing().given(bookRepository).deleteReviewWordsByBookId(bookId);
-        willDoNothing().given(bookRepository).deleteReviewPhrasesByBookId(bookId);
-
-        // When
-        bookService.deleteBook(userId, bookId);
-
-        // Then
-        verify(bookRepository).deleteAllReviewWordsByUnknownWordsOfBook(bookId);
-        verify(bookRepository).deleteAllReviewPhrasesByUnknownPhrasesOfBook(bookId);
-        verify(bookRepository).deleteReviewWordsByBookId(bookId);
-        verify(bookRepository).deleteReviewPhrasesByBookId(bookId);
-        verify(bookRepository).delete(book);
-    }
-
-    @Test
-    @DisplayName("deleteBook 성공 - 연관 데이터 삭제 순서 검증")
-    void deleteBookVerifyDeletionOrder() {
-        // Given
-        Long userId = 1L;
-        Long bookId = 1L;
-        User user = new User("test@example.com");
-        ReflectionTestUtils.setField(user, "id", userId);
-
-        Book book = new Book(user, "Test Book", BookCategory.ADVENTURE, 800, 1000);
-        ReflectionTestUtils.setField(book, "id", bookId);
-
-        Sentence sentence = new Sentence(book, 1, 1, "Test.", "테스트.");
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-        given(sentenceRepository.findAllByBook(book)).willReturn(List.of(sentence));
-        willDoNothing().given(bookRepository).deleteAllReviewWordsByUnknownWordsOfBook(bookId);
-        willDoNothing().given(bookRepository).deleteAllReviewPhrasesByUnknownPhrasesOfBook(bookId);
-        willDoNothing().given(bookRepository).deleteReviewWordsByBookId(bookId);
-        willDoNothing().given(bookRepository).deleteReviewPhrasesByBookId(bookId);
 
         // When
         bookService.deleteBook(userId, bookId);
 
         // Then
-        var inOrder = inOrder(
-                bookRepository, wordRepository, phraseRepository,
-                unknownWordRepository, unknownPhraseRepository, sentenceRepository, quizRepository
-        );
-
-        inOrder.verify(bookRepository).deleteAllReviewWordsByUnknownWordsOfBook(bookId);
-        inOrder.verify(bookRepository).deleteAllReviewPhrasesByUnknownPhrasesOfBook(bookId);
-        inOrder.verify(bookRepository).deleteReviewWordsByBookId(bookId);
-        inOrder.verify(bookRepository).deleteReviewPhrasesByBookId(bookId);
-        inOrder.verify(wordRepository).deleteAllBySentence(sentence);
-        inOrder.verify(phraseRepository).deleteAllBySentence(sentence);
-        inOrder.verify(unknownWordRepository).deleteAllByBook(book);
-        inOrder.verify(unknownPhraseRepository).deleteAllByBook(book);
-        inOrder.verify(sentenceRepository).deleteAllByBook(book);
-        inOrder.verify(quizRepository).deleteAllByBook(book);
-        inOrder.verify(bookRepository).delete(book);
+        verify(bookPurgeService).purge(List.of(bookId));
     }
 }
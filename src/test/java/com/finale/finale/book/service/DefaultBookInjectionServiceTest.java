@@ -0,0 +1,79 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finale.finale.auth.domain.User;
+import com.finale.finale.book.domain.Book;
+import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.repository.BookContentJdbcRepository;
+import com.finale.finale.book.repository.BookContentJdbcRepository.QuizRow;
+import com.finale.finale.book.repository.BookContentJdbcRepository.SentenceRow;
+import com.finale.finale.book.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DefaultBookInjectionService 테스트")
+class DefaultBookInjectionServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookContentJdbcRepository bookContentJdbcRepository;
+
+    private DefaultBookInjectionService defaultBookInjectionService;
+
+    @BeforeEach
+    void setUp() {
+        defaultBookInjectionService = new DefaultBookInjectionService(bookRepository, bookContentJdbcRepository, new ObjectMapper());
+        defaultBookInjectionService.loadTemplate();
+    }
+
+    @Test
+    @DisplayName("기본 책 주입 - 미리 변환된 템플릿을 배치로 복사")
+    void injectCopiesTemplate() {
+        // Given
+        User user = new User("test@example.com");
+        willAnswer(invocation -> {
+            Book book = invocation.getArgument(0);
+            ReflectionTestUtils.setField(book, "id", 10L);
+            return book;
+        }).given(bookRepository).save(any(Book.class));
+
+        // When
+        defaultBookInjectionService.injectDefaultBook(user);
+        defaultBookInjectionService.injectDefaultBook(user);
+
+        // Then
+        ArgumentCaptor<Book> book = ArgumentCaptor.forClass(Book.class);
+        verify(bookRepository, times(2)).save(book.capture());
+        assertThat(book.getValue().getTitle()).isEqualTo("The Gift of Honesty");
+        assertThat(book.getValue().getCategory()).isEqualTo(BookCategory.MORAL);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SentenceRow>> sentences = ArgumentCaptor.forClass(List.class);
+        verify(bookContentJdbcRepository, times(2)).insertSentenceRows(eq(10L), sentences.capture());
+        assertThat(sentences.getAllValues().get(0)).isSameAs(sentences.getAllValues().get(1));
+        assertThat(sentences.getValue().get(0).annotations()).contains("\"m\":\"마을\"");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<QuizRow>> quizzes = ArgumentCaptor.forClass(List.class);
+        verify(bookContentJdbcRepository, times(2)).insertQuizRows(eq(10L), quizzes.capture());
+        assertThat(quizzes.getValue()).isNotEmpty();
+    }
+}
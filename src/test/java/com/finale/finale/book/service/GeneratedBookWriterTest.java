@@ -0,0 +1,139 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.domain.User;
+import com.finale.finale.auth.repository.UserRepository;
+import com.finale.finale.book.domain.Book;
+import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.domain.FixedIntervalReviewScheduler;
+import com.finale.finale.book.domain.Quiz;
+import com.finale.finale.book.domain.ReviewScheduler;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.book.domain.UnknownWord;
+import com.finale.finale.book.domain.Word;
+import com.finale.finale.book.repository.BookContentJdbcRepository;
+import com.finale.finale.book.repository.BookRepository;
+import com.finale.finale.book.repository.UnknownPhraseRepository;
+import com.finale.finale.book.repository.UnknownWordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GeneratedBookWriter 테스트")
+class GeneratedBookWriterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private UnknownWordRepository unknownWordRepository;
+
+    @Mock
+    private UnknownPhraseRepository unknownPhraseRepository;
+
+    @Mock
+    private BookContentJdbcRepository bookContentJdbcRepository;
+
+    @Mock
+    private CompletedBookDetailCache completedBookDetailCache;
+
+    @Mock
+    private ReviewQueue reviewQueue;
+
+    @Spy
+    private ReviewScheduler reviewScheduler = new FixedIntervalReviewScheduler();
+
+    @InjectMocks
+    private GeneratedBookWriter generatedBookWriter;
+
+    @Test
+    @DisplayName("책 저장 - 문장과 퀴즈를 한 번씩 배치로 저장")
+    void writeInBatches() {
+        // Given
+        User user = new User("test@example.com");
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(unknownWordRepository.findAllById(List.of())).willReturn(List.of());
+        given(unknownPhraseRepository.findAllById(List.of())).willReturn(List.of());
+        willAnswer(invocation -> {
+            Book book = invocation.getArgument(0);
+            ReflectionTestUtils.setField(book, "id", 10L);
+            return book;
+        }).given(bookRepository).saveAndFlush(any(Book.class));
+
+        Sentence first = new Sentence(null, 1, 1, "She smiled.", "그녀는 웃었다.");
+        Sentence second = new Sentence(null, 1, 2, "He ran.", "그는 달렸다.");
+        ParsedStory story = new ParsedStory(
+                "Title",
+                List.of(first, second),
+                List.of(new ParsedStory.QuizData("Q1", true), new ParsedStory.QuizData("Q2", false)),
+                4
+        );
+        SentenceAnalysis analysis = SentenceAnalysis.empty();
+        analysis.words().add(new Word(first, "smiled", "웃었다", 4));
+
+        GenerationData data = new GenerationData(1L, 500, BookCategory.ADVENTURE, "prompt", List.of(), List.of());
+
+        // When
+        Book book = generatedBookWriter.write(data, story, analysis);
+
+        // Then
+        assertThat(book.getId()).isEqualTo(10L);
+        assertThat(first.getBook()).isSameAs(book);
+        assertThat(first.getAnnotations().words()).hasSize(1);
+        assertThat(second.getAnnotations().words()).isEmpty();
+        verify(bookContentJdbcRepository).insertSentences(10L, List.of(first, second));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Quiz>> quizzes = ArgumentCaptor.forClass(List.class);
+        verify(bookContentJdbcRepository).insertQuizzes(eq(10L), quizzes.capture());
+        assertThat(quizzes.getValue())
+                .extracting(Quiz::getQuestion)
+                .containsExactly("Q1", "Q2");
+    }
+
+    @Test
+    @DisplayName("책 저장 - 복습 단어가 등장한 모든 책의 상세 캐시를 무효화")
+    void writeEvictsDetailsOfAllOccurrenceBooks() {
+        // Given
+        User user = new User("test@example.com");
+        Book previousBook = new Book(user, "Previous Book", BookCategory.ADVENTURE, 500, 600);
+        ReflectionTestUtils.setField(previousBook, "id", 4L);
+        UnknownWord reviewWord = new UnknownWord(
+                user, previousBook, "apple", "사과", "An apple.", "사과.", 1L, 3, 5, LocalDate.now());
+        ReflectionTestUtils.setField(reviewWord, "id", 20L);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(unknownWordRepository.findAllById(List.of(20L))).willReturn(List.of(reviewWord));
+        given(unknownPhraseRepository.findAllById(List.of())).willReturn(List.of());
+        given(unknownWordRepository.findOccurrenceBookIdsByIdIn(List.of(20L))).willReturn(List.of(3L, 4L));
+
+        ParsedStory story = new ParsedStory("Title", List.of(), List.of(), 0);
+        GenerationData data = new GenerationData(1L, 500, BookCategory.ADVENTURE, "prompt", List.of(20L), List.of());
+
+        // When
+        generatedBookWriter.write(data, story, SentenceAnalysis.empty());
+
+        // Then
+        verify(completedBookDetailCache).evict(1L, List.of(3L, 4L));
+    }
+}
@@ -4,13 +4,17 @@ import com.finale.finale.auth.domain.User;
 import com.finale.finale.auth.repository.UserRepository;
 import com.finale.finale.book.domain.Book;
 import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.domain.FixedIntervalReviewScheduler;
 import com.finale.finale.book.domain.Quiz;
+import com.finale.finale.book.domain.ReviewScheduler;
+import com.finale.finale.book.domain.UnknownWord;
 import com.finale.finale.book.dto.request.CompleteRequest;
 import com.finale.finale.book.dto.response.CompleteResponse;
 import com.finale.finale.book.repository.BookRepository;
 import com.finale.finale.book.repository.QuizRepository;
 import com.finale.finale.book.repository.SentenceRepository;
-import com.finale.finale.book.repository.UnknownPhraseRepository;
+import com.finale.finale.book.repository.ReviewItemJdbcRepository;
+import com.finale.finale.book.repository.ReviewSchedule;
 import com.finale.finale.book.repository.UnknownWordRepository;
 import com.finale.finale.exception.CustomException;
 import com.finale.finale.exception.ErrorCode;
@@ -19,15 +23,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -51,7 +59,22 @@ public class LearningServiceTest {
     private UnknownWordRepository unknownWordRepository;
 
     @Mock
-    private UnknownPhraseRepository unknownPhraseRepository;
+    private ReviewItemJdbcRepository reviewItemJdbcRepository;
+
+    @Mock
+    private CompletedBookDetailCache completedBookDetailCache;
+
+    @Spy
+    private ReviewScheduler reviewScheduler = new FixedIntervalReviewScheduler();
+
+    @Mock
+    private ReviewQueue reviewQueue;
+
+    @Mock
+    private CompletedBookCountCache completedBookCountCache;
+
+    @Mock
+    private VocabularyIndex vocabularyIndex;
 
     @InjectMocks
     private LearningService learningService;
@@ -194,7 +217,67 @@ public class LearningServiceTest {
         learningService.complete(1L, 1L, request);
 
         // Then
-        verify(unknownWordRepository).save(any());
+        verify(reviewItemJdbcRepository).insertUnknownWords(argThat(words -> words.size() == 1));
         verify(userRepository).save(user);
     }
+
+    @Test
+    @DisplayName("모르는 단어 저장 - 같은 단어는 한 번만, 이미 있는 단어는 새 문맥으로 갱신하고 다시 학습")
+    void completeUpsertsExistingUnknownWords() {
+        // Given
+        User user = new User("test@example.com");
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        Book previousBook = new Book(user, "Previous Book", BookCategory.ADVENTURE, 500, 600);
+        ReflectionTestUtils.setField(previousBook, "id", 2L);
+        Book book = new Book(user, "Test Book", BookCategory.ADVENTURE, 500, 600);
+        ReflectionTestUtils.setField(book, "id", 1L);
+
+        UnknownWord existing = new UnknownWord(
+                user, previousBook, "Example", "보기",
+                "An old example.", "오래된 예시.",
+                5L, 7, 7, LocalDate.now().plusDays(30)
+        );
+        ReflectionTestUtils.setField(existing, "id", 10L);
+        ReflectionTestUtils.setField(existing, "reviewCount", 4);
+
+        CompleteRequest request = new CompleteRequest(
+                List.of(),
+                List.of(
+                        new CompleteRequest.UnknownWord("example", "예시", "This is an example.", "이것은 예시입니다.", 1L, 8, 7),
+                        new CompleteRequest.UnknownWord("EXAMPLE", "예시", "Another example.", "또 다른 예시.", 2L, 8, 7),
+                        new CompleteRequest.UnknownWord("new", "새로운", "A new word.", "새 단어.", 3L, 2, 3)
+                ),
+                List.of()
+        );
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(bookRepository.findById(1L)).willReturn(Optional.of(book));
+        given(quizRepository.findAllById(any())).willReturn(List.of());
+        given(sentenceRepository.countByBookId(1L)).willReturn(50);
+        given(vocabularyIndex.findKnown(1L, Set.of("example", "new"))).willReturn(Set.of("example"));
+        given(unknownWordRepository.findAllByUserIdAndLemmaIn(1L, Set.of("example")))
+                .willReturn(List.of(existing));
+        given(reviewItemJdbcRepository.insertUnknownWords(any()))
+                .willReturn(List.of(new ReviewSchedule(11L, LocalDate.now())));
+        given(unknownWordRepository.findOccurrenceBookIdsByIdIn(List.of(10L))).willReturn(List.of(1L, 2L, 3L));
+
+        // When
+        learningService.complete(1L, 1L, request);
+
+        // Then
+        assertThat(existing.getBook()).isEqualTo(book);
+        assertThat(existing.getSentence()).isEqualTo("This is an example.");
+        assertThat(existing.getReviewCount()).isZero();
+        assertThat(existing.getNextReviewDate()).isEqualTo(LocalDate.now());
+        verify(reviewItemJdbcRepository).insertUnknownWords(argThat(words ->
+                words.size() == 1 && words.get(0).getWord().equals("new")));
+        verify(reviewItemJdbcRepository).insertOccurrences(List.of(existing));
+        verify(vocabularyIndex).add(1L, List.of("new"));
+        verify(completedBookDetailCache).evict(1L, List.of(1L, 2L, 3L));
+        verify(reviewQueue).scheduleAll(1L,
+                List.of(new ReviewSchedule(10L, LocalDate.now()), new ReviewSchedule(11L, LocalDate.now())),
+                List.of());
+        assertThat(user.getUnknownWordsCount()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,145 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.book.domain.UnknownPhrase;
+import com.finale.finale.book.domain.UnknownWord;
+import com.finale.finale.book.repository.ReviewSchedule;
+import com.finale.finale.book.repository.UnknownPhraseRepository;
+import com.finale.finale.book.repository.UnknownWordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewQueue 테스트")
+class ReviewQueueTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RScoredSortedSet<String> wordQueue;
+
+    @Mock
+    private RScoredSortedSet<String> phraseQueue;
+
+    @Mock
+    private UnknownWordRepository unknownWordRepository;
+
+    @Mock
+    private UnknownPhraseRepository unknownPhraseRepository;
+
+    @InjectMocks
+    private ReviewQueue reviewQueue;
+
+    private final LocalDate today = LocalDate.of(2025, 3, 1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewQueue, "ttl", Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("큐가 없으면 DB에서 종류별 큐를 재구성한 뒤 각각 범위 조회")
+    void findDueRebuildsMissingQueue() {
+        // Given
+        givenQueues();
+        given(wordQueue.getScore("ready")).willReturn(null);
+        given(phraseQueue.getScore("ready")).willReturn(null);
+        given(unknownWordRepository.findReviewSchedulesByUserId(1L))
+                .willReturn(List.of(new ReviewSchedule(10L, today.minusDays(1))));
+        given(unknownPhraseRepository.findReviewSchedulesByUserId(1L))
+                .willReturn(List.of(new ReviewSchedule(20L, today)));
+        given(wordQueue.valueRange(Double.NEGATIVE_INFINITY, true, (double) today.toEpochDay(), true, 0, 5))
+                .willReturn(List.of("10"));
+        given(phraseQueue.valueRange(Double.NEGATIVE_INFINITY, true, (double) today.toEpochDay(), true, 0, 5))
+                .willReturn(List.of("20"));
+
+        // When
+        DueReviews due = reviewQueue.findDue(1L, today);
+
+        // Then
+        verify(wordQueue).addAll(Map.of(
+                "10", (double) today.minusDays(1).toEpochDay(),
+                "ready", Double.POSITIVE_INFINITY
+        ));
+        verify(phraseQueue).addAll(Map.of(
+                "20", (double) today.toEpochDay(),
+                "ready", Double.POSITIVE_INFINITY
+        ));
+        assertThat(due.wordIds()).containsExactly(10L);
+        assertThat(due.phraseIds()).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("밀린 단어가 많아도 표현은 별도 큐에서 조회되어 누락되지 않음")
+    void findDueReadsPhrasesIndependentlyOfWords() {
+        // Given
+        givenQueues();
+        given(wordQueue.getScore("ready")).willReturn(Double.POSITIVE_INFINITY);
+        given(phraseQueue.getScore("ready")).willReturn(Double.POSITIVE_INFINITY);
+        given(wordQueue.valueRange(Double.NEGATIVE_INFINITY, true, (double) today.toEpochDay(), true, 0, 5))
+                .willReturn(List.of("1", "2", "3", "4", "5"));
+        given(phraseQueue.valueRange(Double.NEGATIVE_INFINITY, true, (double) today.toEpochDay(), true, 0, 5))
+                .willReturn(List.of("7"));
+
+        // When
+        DueReviews due = reviewQueue.findDue(1L, today);
+
+        // Then
+        assertThat(due.wordIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(due.phraseIds()).containsExactly(7L);
+        verify(unknownWordRepository, never()).findReviewSchedulesByUserId(anyLong());
+        verify(unknownPhraseRepository, never()).findReviewSchedulesByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB의 상위 5개 조회로 대체")
+    void findDueFallsBackToDatabase() {
+        // Given
+        UnknownWord word = new UnknownWord(null, null, "word", "단어", "A word.", "단어.", 1L, 2, 4, today);
+        ReflectionTestUtils.setField(word, "id", 10L);
+        UnknownPhrase phrase = new UnknownPhrase(null, null, "a word", "단어", "A word.", "단어.", 1L, today);
+        ReflectionTestUtils.setField(phrase, "id", 20L);
+
+        given(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class)))
+                .willThrow(new IllegalStateException("redis down"));
+        given(unknownWordRepository.findTop5ByUser_IdAndNextReviewDateLessThanEqualOrderByNextReviewDateAsc(eq(1L), eq(today)))
+                .willReturn(List.of(word));
+        given(unknownPhraseRepository.findTop5ByUser_IdAndNextReviewDateLessThanEqualOrderByNextReviewDateAsc(eq(1L), eq(today)))
+                .willReturn(List.of(phrase));
+
+        // When
+        DueReviews due = reviewQueue.findDue(1L, today);
+
+        // Then
+        assertThat(due.wordIds()).containsExactly(10L);
+        assertThat(due.phraseIds()).containsExactly(20L);
+    }
+
+    private void givenQueues() {
+        given(redissonClient.<String>getScoredSortedSet(eq("review-queue:{1}:w"), any(Codec.class))).willReturn(wordQueue);
+        given(redissonClient.<String>getScoredSortedSet(eq("review-queue:{1}:p"), any(Codec.class))).willReturn(phraseQueue);
+    }
+}
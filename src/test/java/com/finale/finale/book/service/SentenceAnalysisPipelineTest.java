@@ -0,0 +1,148 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.domain.User;
+import com.finale.finale.book.domain.Book;
+import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.book.domain.Word;
+import com.finale.finale.exception.CustomException;
+import com.finale.finale.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SentenceAnalysisPipeline 테스트")
+class SentenceAnalysisPipelineTest {
+
+    @Mock
+    private WordMeaningService wordMeaningService;
+
+    @InjectMocks
+    private SentenceAnalysisPipeline sentenceAnalysisPipeline;
+
+    private List<Sentence> sentences;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sentenceAnalysisPipeline, "batchSize", 2);
+        ReflectionTestUtils.setField(sentenceAnalysisPipeline, "maxConcurrency", 2);
+        ReflectionTestUtils.setField(sentenceAnalysisPipeline, "requestTimeout", Duration.ofSeconds(5));
+
+        User user = new User("test@example.com");
+        Book book = new Book(user, "Test Book", BookCategory.ADVENTURE, 500, 600);
+        sentences = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            sentences.add(new Sentence(book, 1, i, "Word" + i + " here.", "문장 " + i));
+        }
+    }
+
+    @Test
+    @DisplayName("분석 후 주석 - 모든 청크의 단어가 각 문장에 기록됨")
+    void analyzeAndAnnotateCollectsAllChunks() {
+        // Given
+        given(wordMeaningService.analyze(anyList())).willAnswer(invocation -> {
+            List<Sentence> chunk = invocation.getArgument(0);
+            SentenceAnalysis analysis = SentenceAnalysis.empty();
+            chunk.forEach(sentence -> analysis.words().add(new Word(sentence, "here", "여기", 6)));
+            return analysis;
+        });
+
+        // When
+        SentenceAnalysis analysis = sentenceAnalysisPipeline.analyze(sentences);
+        analysis.annotate(sentences);
+
+        // Then
+        verify(wordMeaningService, times(3)).analyze(anyList());
+        assertThat(analysis.words())
+                .extracting(Word::getSentence)
+                .containsExactlyElementsOf(sentences);
+        assertThat(sentences)
+                .allSatisfy(sentence -> assertThat(sentence.getAnnotations().words()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("분석 실패 - 한 청크라도 실패하면 AI_SERVICE_ERROR")
+    void analyzeFailsWhenChunkFails() {
+        // Given
+        given(wordMeaningService.analyze(anyList())).willThrow(new RuntimeException("boom"));
+
+        // When & Then
+        assertThatThrownBy(() -> sentenceAnalysisPipeline.analyze(sentences))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AI_SERVICE_ERROR);
+    }
+
+    @Test
+    @DisplayName("세션 분석 - 스트리밍으로 제출된 문장도 배치 단위로 분석")
+    void sessionAnalyzesSubmittedSentences() {
+        // Given
+        given(wordMeaningService.analyze(anyList())).willAnswer(invocation -> {
+            List<Sentence> chunk = invocation.getArgument(0);
+            SentenceAnalysis analysis = SentenceAnalysis.empty();
+            chunk.forEach(sentence -> analysis.words().add(new Word(sentence, "here", "여기", 6)));
+            return analysis;
+        });
+
+        // When
+        SentenceAnalysis analysis;
+        try (SentenceAnalysisSession session = sentenceAnalysisPipeline.open()) {
+            sentences.forEach(session::submit);
+            analysis = session.await();
+        }
+
+        // Then
+        verify(wordMeaningService, times(3)).analyze(anyList());
+        assertThat(analysis.words())
+                .extracting(Word::getSentence)
+                .containsExactlyElementsOf(sentences);
+    }
+
+    @Test
+    @DisplayName("분석 시간 초과 - 대기 중인 청크도 제출 시점부터 제한 시간 적용")
+    void analyzeTimesOutQueuedChunks() {
+        // Given
+        ReflectionTestUtils.setField(sentenceAnalysisPipeline, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(sentenceAnalysisPipeline, "requestTimeout", Duration.ofMillis(200));
+        given(wordMeaningService.analyze(anyList())).willAnswer(invocation -> {
+            Thread.sleep(Duration.ofSeconds(10));
+            return SentenceAnalysis.empty();
+        });
+
+        // When & Then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> sentenceAnalysisPipeline.analyze(sentences))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AI_SERVICE_ERROR));
+    }
+
+    @Test
+    @DisplayName("분석 실패 - Error가 발생해도 대기하지 않고 AI_SERVICE_ERROR")
+    void analyzeFailsWhenChunkThrowsError() {
+        // Given
+        given(wordMeaningService.analyze(anyList())).willThrow(new StackOverflowError());
+
+        // When & Then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> sentenceAnalysisPipeline.analyze(sentences))
+                        .isInstanceOf(CustomException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AI_SERVICE_ERROR));
+    }
+}
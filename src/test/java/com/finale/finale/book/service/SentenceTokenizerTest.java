@@ -0,0 +1,68 @@
+package com.finale.finale.book.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("SentenceTokenizer 테스트")
+class SentenceTokenizerTest {
+
+    @Test
+    @DisplayName("토큰화 - 문장부호를 제외하고 축약형과 하이픈 단어는 하나의 토큰으로 유지")
+    void tokenizeKeepsOffsets() {
+        // When
+        TokenizedSentence sentence = SentenceTokenizer.tokenize("\"Don't go,\" said the well-known cat.");
+
+        // Then
+        assertThat(sentence.tokens())
+                .extracting(TokenizedSentence.Token::text, TokenizedSentence.Token::start, TokenizedSentence.Token::end)
+                .containsExactly(
+                        tuple("don't", 1, 6),
+                        tuple("go", 7, 9),
+                        tuple("said", 12, 16),
+                        tuple("the", 17, 20),
+                        tuple("well-known", 21, 31),
+                        tuple("cat", 32, 35)
+                );
+    }
+
+    @Test
+    @DisplayName("위치 검색 - 반복된 단어는 이전 위치 이후의 토큰으로 찾음")
+    void findRepeatedWordAfterCursor() {
+        // Given
+        TokenizedSentence sentence = SentenceTokenizer.tokenize("The cat saw the dog.");
+
+        // When
+        TokenizedSentence.TokenSpan first = sentence.find("the", 0).orElseThrow();
+        TokenizedSentence.TokenSpan second = sentence.find("The", first.nextToken()).orElseThrow();
+
+        // Then
+        assertThat(first.start()).isEqualTo(0);
+        assertThat(second.start()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("위치 검색 - 커서 뒤에 없으면 앞에서부터 다시 찾고, 여러 단어는 연속 토큰으로 찾음")
+    void findWrapsAroundAndMatchesMultipleTokens() {
+        // Given
+        TokenizedSentence sentence = SentenceTokenizer.tokenize("She gave up on the ice cream.");
+
+        // When & Then
+        assertThat(sentence.find("She", 3).orElseThrow().start()).isEqualTo(0);
+        assertThat(sentence.find("ice cream", 0).orElseThrow())
+                .isEqualTo(new TokenizedSentence.TokenSpan(5, 7, 19, 28));
+        assertThat(sentence.find("dog", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("위치 검색 - 표기가 다르면 표제어로 찾음")
+    void findByLemma() {
+        // Given
+        TokenizedSentence sentence = SentenceTokenizer.tokenize("Mina's key was lost.");
+
+        // When & Then
+        assertThat(sentence.find("Mina", 0).orElseThrow().start()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,122 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.book.domain.Word;
+import com.finale.finale.book.repository.SharedStoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SharedStoryCache 테스트")
+class SharedStoryCacheTest {
+
+    @Mock
+    private SharedStoryRepository sharedStoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SharedStoryCache sharedStoryCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sharedStoryCache = new SharedStoryCache(sharedStoryRepository, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(sharedStoryCache, "enabled", true);
+        ReflectionTestUtils.setField(sharedStoryCache, "levelBucketSize", 100);
+        ReflectionTestUtils.setField(sharedStoryCache, "maxEntries", 20);
+        ReflectionTestUtils.setField(sharedStoryCache, "ttl", Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("캐시 저장 후 조회 - 단어 주석까지 복원")
+    void putAndFind() {
+        // Given
+        Sentence sentence = new Sentence(null, 1, 1, "She smiled.", "그녀는 웃었다.");
+        ParsedStory story = new ParsedStory("Smile", List.of(sentence), List.of(new ParsedStory.QuizData("Q", true)), 2);
+        SentenceAnalysis analysis = SentenceAnalysis.empty();
+        analysis.words().add(new Word(sentence, "smiled", "웃었다", 4));
+
+        sharedStoryCache.put(BookCategory.ADVENTURE, 500, CachedStory.of(story, analysis));
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(sharedStoryRepository).push(eq(BookCategory.ADVENTURE), eq(7), eq("Smile"), json.capture(), eq(20), eq(Duration.ofDays(7)));
+        given(sharedStoryRepository.findTitles(BookCategory.ADVENTURE, 7)).willReturn(List.of("Smile"));
+        given(sharedStoryRepository.find(BookCategory.ADVENTURE, 7, "Smile")).willReturn(Optional.of(json.getValue()));
+
+        // When
+        Optional<CachedStory> found = sharedStoryCache.find(BookCategory.ADVENTURE, 520, title -> false);
+
+        // Then
+        assertThat(found).isPresent();
+        ParsedStory restored = found.get().toParsedStory();
+        SentenceAnalysis restoredAnalysis = found.get().toAnalysis(restored.sentences());
+        assertThat(restored.title()).isEqualTo("Smile");
+        assertThat(restoredAnalysis.words()).hasSize(1);
+        assertThat(restoredAnalysis.words().get(0).getSentence()).isSameAs(restored.sentences().get(0));
+        assertThat(meterRegistry.get("story.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - 이미 읽은 스토리만 있으면 미스로 집계")
+    void missWhenAlreadyRead() {
+        // Given
+        given(sharedStoryRepository.findTitles(BookCategory.ADVENTURE, 7)).willReturn(List.of("Smile"));
+
+        // When
+        Optional<CachedStory> found = sharedStoryCache.find(BookCategory.ADVENTURE, 500, "Smile"::equals);
+
+        // Then
+        assertThat(found).isEmpty();
+        assertThat(meterRegistry.get("story.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+        verify(sharedStoryRepository, never()).find(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 조회는 미스로 처리")
+    void findDegradesToMissWhenRedisFails() {
+        // Given
+        given(sharedStoryRepository.findTitles(BookCategory.ADVENTURE, 7)).willThrow(new IllegalStateException("down"));
+
+        // When
+        Optional<CachedStory> found = sharedStoryCache.find(BookCategory.ADVENTURE, 500, title -> false);
+
+        // Then
+        assertThat(found).isEmpty();
+        assertThat(meterRegistry.get("story.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 저장 실패는 예외 없이 무시")
+    void putIgnoresRedisFailure() {
+        // Given
+        ParsedStory story = new ParsedStory("Smile", List.of(), List.of(), 0);
+        willThrow(new IllegalStateException("down")).given(sharedStoryRepository)
+                .push(any(), anyInt(), any(), any(), anyInt(), any());
+
+        // When & Then
+        assertThatCode(() -> sharedStoryCache.put(BookCategory.ADVENTURE, 500, CachedStory.of(story, SentenceAnalysis.empty())))
+                .doesNotThrowAnyException();
+    }
+}
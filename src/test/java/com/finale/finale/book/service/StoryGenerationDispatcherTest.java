@@ -0,0 +1,87 @@
+package com.finale.finale.book.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoryGenerationDispatcher 테스트")
+class StoryGenerationDispatcherTest {
+
+    @Mock
+    private StoryGenerationService storyGenerationService;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RSet<String> retrySet;
+
+    @InjectMocks
+    private StoryGenerationDispatcher storyGenerationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storyGenerationDispatcher, "retryBatchSize", 20);
+    }
+
+    @Test
+    @DisplayName("생성 요청 - 실행기에 제출되면 재시도 큐를 사용하지 않음")
+    void dispatchSubmitsGeneration() {
+        // When
+        storyGenerationDispatcher.dispatch(1L);
+
+        // Then
+        verify(storyGenerationService).generate(1L);
+        verify(redissonClient, never()).getSet(anyString(), any(Codec.class));
+    }
+
+    @Test
+    @DisplayName("생성 요청 - 실행기가 가득 차 거절되면 재시도 큐에 등록")
+    void dispatchEnqueuesRejectedGeneration() {
+        // Given
+        given(redissonClient.<String>getSet(eq("story-generation:retry"), any(Codec.class))).willReturn(retrySet);
+        willThrow(new TaskRejectedException("full")).given(storyGenerationService).generate(1L);
+
+        // When
+        storyGenerationDispatcher.dispatch(1L);
+
+        // Then
+        verify(retrySet).add("1");
+    }
+
+    @Test
+    @DisplayName("재시도 - 재시도 큐의 사용자를 꺼내 다시 생성 요청")
+    void retryRejectedDispatchesQueuedUsers() {
+        // Given
+        given(redissonClient.<String>getSet(eq("story-generation:retry"), any(Codec.class))).willReturn(retrySet);
+        given(retrySet.removeRandom(20)).willReturn(Set.of("1", "2"));
+
+        // When
+        storyGenerationDispatcher.retryRejected();
+
+        // Then
+        verify(storyGenerationService).generate(1L);
+        verify(storyGenerationService).generate(2L);
+        verify(retrySet, never()).add(anyString());
+    }
+}
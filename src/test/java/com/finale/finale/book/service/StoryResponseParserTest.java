@@ -0,0 +1,149 @@
+package com.finale.finale.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.exception.CustomException;
+import com.finale.finale.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("StoryResponseParser 테스트")
+class StoryResponseParserTest {
+
+    private final StoryResponseParser parser = new StoryResponseParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("파싱 성공 - 제목, 문장, 퀴즈와 단어 수를 한 번에 추출")
+    void parseSuccess() {
+        // Given
+        String response = """
+                {
+                    "title": "The Lost Key",
+                    "sentences": [
+                        {"paragraph_number": 1, "sentence_order": 1, "english_text": "Mina lost her key.", "korean_text": "미나는 열쇠를 잃어버렸다."},
+                        {"paragraph_number": 1, "sentence_order": 2, "english_text": "  She looked  everywhere. ", "korean_text": "그녀는 모든 곳을 찾아보았다."}
+                    ],
+                    "quizzes": [
+                        {"question": "미나는 열쇠를 잃어버렸다.", "correct_answer": true},
+                        {"question": "미나는 찾지 않았다.", "correct_answer": false}
+                    ]
+                }
+                """;
+
+        // When
+        ParsedStory story = parser.parse(response);
+
+        // Then
+        assertThat(story.title()).isEqualTo("The Lost Key");
+        assertThat(story.sentences())
+                .extracting(Sentence::getParagraphNumber, Sentence::getSentenceOrder, Sentence::getEnglishText)
+                .containsExactly(
+                        tuple(1, 1, "Mina lost her key."),
+                        tuple(1, 2, "  She looked  everywhere. ")
+                );
+        assertThat(story.quizDataList())
+                .containsExactly(
+                        new ParsedStory.QuizData("미나는 열쇠를 잃어버렸다.", true),
+                        new ParsedStory.QuizData("미나는 찾지 않았다.", false)
+                );
+        assertThat(story.totalWords()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("파싱 성공 - 코드 블록과 알 수 없는 필드는 무시")
+    void parseIgnoresCodeFenceAndUnknownFields() {
+        // Given
+        String response = """
+                ```json
+                {
+                    "meta": {"model": "x", "tags": [{"a": 1}]},
+                    "sentences": [
+                        {"paragraph_number": "2", "sentence_order": 1, "english_text": "Hi.", "korean_text": "안녕.", "notes": {"tone": "soft"}}
+                    ],
+                    "quizzes": []
+                }
+                ```
+                """;
+
+        // When
+        ParsedStory story = parser.parse(response);
+
+        // Then
+        assertThat(story.title()).isEqualTo("Untitled Story");
+        assertThat(story.sentences()).hasSize(1);
+        assertThat(story.sentences().get(0).getParagraphNumber()).isEqualTo(2);
+        assertThat(story.quizDataList()).isEmpty();
+        assertThat(story.totalWords()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파싱 실패 - 필수 필드가 없으면 AI_RESPONSE_INVALID")
+    void parseFailMissingField() {
+        // Given
+        String response = """
+                {"title": "T", "sentences": [{"paragraph_number": 1, "english_text": "Hi.", "korean_text": "안녕."}]}
+                """;
+
+        // When & Then
+        assertThatThrownBy(() -> parser.parse(response))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AI_RESPONSE_INVALID);
+    }
+
+    @Test
+    @DisplayName("파싱 실패 - 잘리거나 잘못된 JSON이면 AI_RESPONSE_INVALID")
+    void parseFailTruncatedJson() {
+        // Given
+        String response = "{\"title\": \"T\", \"sentences\": [";
+
+        // When & Then
+        assertThatThrownBy(() -> parser.parse(response))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AI_RESPONSE_INVALID);
+    }
+
+    @Test
+    @DisplayName("스트리밍 파싱 - 조각난 응답에서도 문장이 완성될 때마다 전달")
+    void streamParseEmitsSentencesIncrementally() {
+        // Given
+        List<Sentence> emitted = new ArrayList<>();
+        List<String> chunks = List.of(
+                "```json\n{\"title\": \"The Lo",
+                "st Key\", \"sentences\": [{\"paragraph_number\": 1, \"sentence_order\": 1, ",
+                "\"english_text\": \"Mina lost her key.\", \"korean_text\": \"미나는 열쇠를 잃어버렸다.\"}",
+                ", {\"paragraph_number\": 1, \"sentence_order\": 2, \"english_text\": \"She cried.\", \"korean_",
+                "text\": \"그녀는 울었다.\"}], \"quizzes\": [{\"question\": \"Q\", \"correct_answer\": true}]}\n```"
+        );
+
+        // When
+        ParsedStory story;
+        try (StoryStreamParser streamParser = parser.openStream(emitted::add)) {
+            streamParser.feed(chunks.get(0));
+            streamParser.feed(chunks.get(1));
+            assertThat(emitted).isEmpty();
+
+            streamParser.feed(chunks.get(2));
+            assertThat(emitted).hasSize(1);
+
+            streamParser.feed(chunks.get(3));
+            streamParser.feed(chunks.get(4));
+            story = streamParser.finish();
+        }
+
+        // Then
+        assertThat(story.title()).isEqualTo("The Lost Key");
+        assertThat(emitted)
+                .extracting(Sentence::getEnglishText)
+                .containsExactly("Mina lost her key.", "She cried.");
+        assertThat(story.sentences()).containsExactlyElementsOf(emitted);
+        assertThat(story.quizDataList()).containsExactly(new ParsedStory.QuizData("Q", true));
+        assertThat(story.totalWords()).isEqualTo(6);
+    }
+}
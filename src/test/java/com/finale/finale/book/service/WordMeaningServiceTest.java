@@ -0,0 +1,87 @@
+package com.finale.finale.book.service;
+
+import com.finale.finale.auth.domain.User;
+import com.finale.finale.book.domain.Book;
+import com.finale.finale.book.domain.BookCategory;
+import com.finale.finale.book.domain.Sentence;
+import com.finale.finale.book.domain.Word;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WordMeaningService 테스트")
+class WordMeaningServiceTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChatClient chatClient;
+
+    @InjectMocks
+    private WordMeaningService wordMeaningService;
+
+    private Sentence first;
+    private Sentence second;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("test@example.com");
+        Book book = new Book(user, "Test Book", BookCategory.ADVENTURE, 500, 600);
+        first = new Sentence(book, 1, 1, "She smiled.", "그녀는 웃었다.");
+        second = new Sentence(book, 1, 2, "He ran.", "그는 달렸다.");
+    }
+
+    @Test
+    @DisplayName("배치 분석 - 한 번의 요청으로 여러 문장의 단어를 분석")
+    void analyzeInBatch() {
+        // Given
+        given(chatClient.prompt().user(anyString()).call().content()).willReturn("""
+                {"sentences": [
+                  {"id": 1, "words": [{"word": "smiled", "meaning": "웃었다"}], "phrases": []},
+                  {"id": 2, "words": [{"word": "ran", "meaning": "달렸다"}], "phrases": []}
+                ]}
+                """);
+
+        // When
+        SentenceAnalysis analysis = wordMeaningService.analyze(List.of(first, second));
+
+        // Then
+        assertThat(analysis.words())
+                .extracting(Word::getSentence, Word::getWord, Word::getLocation)
+                .containsExactly(
+                        tuple(first, "smiled", 4),
+                        tuple(second, "ran", 3)
+                );
+    }
+
+    @Test
+    @DisplayName("배치 분석 - 응답이 잘못되면 문장 단위로 나누어 재시도")
+    void analyzeFallbackOnMalformedResponse() {
+        // Given
+        given(chatClient.prompt().user(anyString()).call().content()).willReturn(
+                "not a json",
+                "{\"words\": [{\"word\": \"smiled\", \"meaning\": \"웃었다\"}], \"phrases\": []}",
+                "{\"words\": [{\"word\": \"ran\", \"meaning\": \"달렸다\"}], \"phrases\": []}"
+        );
+
+        // When
+        SentenceAnalysis analysis = wordMeaningService.analyze(List.of(first, second));
+
+        // Then
+        assertThat(analysis.words())
+                .extracting(Word::getWord)
+                .containsExactly("smiled", "ran");
+    }
+}
@@ -0,0 +1,96 @@
+package com.finale.finale.ranking.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LegacyRankingMigration 테스트")
+class LegacyRankingMigrationTest {
+
+    private final LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RankingRepository rankingRepository;
+
+    @Mock
+    private RScoredSortedSet<String> legacyScores;
+
+    @Mock
+    private RScoredSortedSet<String> missingScores;
+
+    @Mock
+    private RMap<String, String> legacyUsers;
+
+    @Mock
+    private RMap<String, RankingProfile> userMap;
+
+    @InjectMocks
+    private LegacyRankingMigration legacyRankingMigration;
+
+    @Test
+    @DisplayName("마이그레이션 - 점수를 멱등하게 옮긴 뒤 레거시 키 삭제")
+    void migrateCopiesScoresBeforeDeletingLegacyKeys() {
+        // Given
+        givenLegacyWeek();
+        given(legacyScores.entryRange(0, -1)).willReturn(List.of(new ScoredEntry<>(300.0, "1"), new ScoredEntry<>(200.0, "2")));
+        given(legacyUsers.readAllMap()).willReturn(Map.of("1", "alpha"));
+        given(rankingRepository.getUserMap(weekStart, 1L)).willReturn(userMap);
+
+        // When
+        legacyRankingMigration.run(null);
+
+        // Then
+        InOrder inOrder = inOrder(rankingRepository, legacyUsers, legacyScores);
+        inOrder.verify(rankingRepository).addLegacyScore(weekStart, 1L, 300.0);
+        inOrder.verify(rankingRepository).addLegacyScore(weekStart, 2L, 200.0);
+        inOrder.verify(legacyUsers).delete();
+        inOrder.verify(legacyScores).delete();
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - 복사 중 실패하면 레거시 키를 남겨 다음 실행에서 이어서 복사")
+    void migrateKeepsLegacyKeysWhenCopyFails() {
+        // Given
+        givenLegacyWeek();
+        given(legacyScores.entryRange(0, -1)).willReturn(List.of(new ScoredEntry<>(300.0, "1"), new ScoredEntry<>(200.0, "2")));
+        willThrow(new IllegalStateException("down")).given(rankingRepository).addLegacyScore(weekStart, 2L, 200.0);
+
+        // When
+        legacyRankingMigration.run(null);
+
+        // Then
+        verify(legacyScores, never()).delete();
+        verify(legacyUsers, never()).delete();
+    }
+
+    private void givenLegacyWeek() {
+        given(redissonClient.<String>getScoredSortedSet(anyString())).willReturn(missingScores);
+        given(redissonClient.<String>getScoredSortedSet("ranking:score:" + weekStart)).willReturn(legacyScores);
+        given(redissonClient.<String, String>getMap(anyString())).willReturn(legacyUsers);
+        given(legacyScores.isExists()).willReturn(true);
+    }
+}
@@ -0,0 +1,72 @@
+package com.finale.finale.ranking.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RankingMerger 테스트")
+class RankingMergerTest {
+
+    @Test
+    @DisplayName("병합 - 샤드별 내림차순 목록을 하나의 순위로 합침")
+    void mergeShards() {
+        // Given
+        List<List<ScoredEntry<String>>> shards = List.of(
+                List.of(entry("1", 900), entry("4", 500), entry("6", 100)),
+                List.of(entry("2", 800), entry("3", 700)),
+                List.of()
+        );
+
+        // When
+        List<ScoredEntry<String>> merged = RankingMerger.merge(shards, 0, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(merged)
+                .extracting(ScoredEntry::getValue)
+                .containsExactly("1", "2", "3", "4", "6");
+    }
+
+    @Test
+    @DisplayName("병합 - 건너뛸 개수와 최대 개수로 구간만 반환")
+    void mergeWindow() {
+        // Given
+        List<List<ScoredEntry<String>>> shards = List.of(
+                List.of(entry("1", 900), entry("4", 500)),
+                List.of(entry("2", 800), entry("3", 700), entry("5", 300))
+        );
+
+        // When
+        List<ScoredEntry<String>> merged = RankingMerger.merge(shards, 1, 3);
+
+        // Then
+        assertThat(merged)
+                .extracting(ScoredEntry::getValue)
+                .containsExactly("2", "3", "4");
+    }
+
+    @Test
+    @DisplayName("병합 - 동점이면 Redis와 같이 멤버 역순으로 정렬")
+    void mergeTies() {
+        // Given
+        List<List<ScoredEntry<String>>> shards = List.of(
+                List.of(entry("10", 500)),
+                List.of(entry("9", 500))
+        );
+
+        // When
+        List<ScoredEntry<String>> merged = RankingMerger.merge(shards, 0, 2);
+
+        // Then
+        assertThat(merged)
+                .extracting(ScoredEntry::getValue)
+                .containsExactly("9", "10");
+    }
+
+    private ScoredEntry<String> entry(String userId, double score) {
+        return new ScoredEntry<>(score, userId);
+    }
+}
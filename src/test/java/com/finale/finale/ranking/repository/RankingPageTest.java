@@ -0,0 +1,47 @@
+package com.finale.finale.ranking.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RankingPage 테스트")
+class RankingPageTest {
+
+    @Test
+    @DisplayName("순위 - 동점자는 같은 순위, 다음 점수는 위치 기준 순위")
+    void ranksShareTies() {
+        // Given
+        RankingPage page = new RankingPage(1, 1, List.of(
+                entry("1", 900), entry("2", 800), entry("3", 800), entry("4", 700)
+        ));
+
+        // When
+        List<Integer> ranks = page.ranks();
+
+        // Then
+        assertThat(ranks).containsExactly(1, 2, 2, 4);
+    }
+
+    @Test
+    @DisplayName("순위 - 페이지 경계에 걸친 동점은 첫 순위를 이어받음")
+    void ranksContinueTieAcrossPageBoundary() {
+        // Given
+        RankingPage page = new RankingPage(5, 3, List.of(
+                entry("1", 900), entry("2", 900), entry("3", 800), entry("4", 800), entry("5", 700)
+        ));
+
+        // When
+        List<Integer> ranks = page.ranks();
+
+        // Then
+        assertThat(ranks).containsExactly(3, 3, 7, 7, 9);
+    }
+
+    private static ScoredEntry<String> entry(String member, double score) {
+        return new ScoredEntry<>(score, member);
+    }
+}
@@ -0,0 +1,56 @@
+package com.finale.finale.ranking.repository;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RankingProfileCodec 테스트")
+class RankingProfileCodecTest {
+
+    @Test
+    @DisplayName("인코딩 - 콜론과 한글이 포함된 닉네임도 그대로 복원")
+    void roundTrip() {
+        // Given
+        RankingProfile profile = new RankingProfile("독서왕:1호", "thriller");
+
+        // When
+        RankingProfile decoded = RankingProfileCodec.decode(RankingProfileCodec.encode(profile));
+
+        // Then
+        assertThat(decoded).isEqualTo(profile);
+    }
+
+    @Test
+    @DisplayName("인코딩 - Redisson 인코더와 디코더로 변환")
+    void roundTripThroughRedissonCodec() throws Exception {
+        // Given
+        RankingProfile profile = new RankingProfile("a".repeat(200), "sf");
+
+        // When
+        ByteBuf encoded = RankingProfileCodec.INSTANCE.getValueEncoder().encode(profile);
+        Object decoded = RankingProfileCodec.INSTANCE.getValueDecoder().decode(encoded, null);
+
+        // Then
+        assertThat(decoded).isEqualTo(profile);
+        encoded.release();
+    }
+
+    @Test
+    @DisplayName("디코딩 - 기존 \"닉네임:이미지\" 문자열도 읽음")
+    void decodeLegacyValue() throws Exception {
+        // Given
+        ByteBuf legacy = Unpooled.copiedBuffer("reader:with:colon:CAT", StandardCharsets.UTF_8);
+
+        // When
+        Object decoded = RankingProfileCodec.INSTANCE.getValueDecoder().decode(legacy, null);
+
+        // Then
+        assertThat(decoded).isEqualTo(new RankingProfile("reader:with:colon", "CAT"));
+        assertThat(RankingProfileCodec.decodeLegacy("noImage")).isEqualTo(new RankingProfile("noImage", "sf"));
+    }
+}
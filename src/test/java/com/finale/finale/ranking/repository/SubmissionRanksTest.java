@@ -0,0 +1,64 @@
+package com.finale.finale.ranking.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SubmissionRanks 테스트")
+class SubmissionRanksTest {
+
+    @Test
+    @DisplayName("순위 계산 - 점수가 오르면 이전 점수보다 높은 인원에서 자신을 제외")
+    void rankUp() {
+        // Given: 총 10명, 새 점수보다 높은 2명, 이전 점수보다 높은 6명(자신 포함)
+
+        // When
+        SubmissionRanks ranks = SubmissionRanks.of(10, 2, 6, 100.0, 200.0, 3);
+
+        // Then
+        assertThat(ranks.startRank()).isEqualTo(6);
+        assertThat(ranks.endRank()).isEqualTo(3);
+        assertThat(ranks.rangeStart()).isEqualTo(1);
+        assertThat(ranks.rangeEnd()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("순위 계산 - 점수 변화가 없으면 시작과 끝 순위가 같음")
+    void noScoreChange() {
+        // When
+        SubmissionRanks ranks = SubmissionRanks.of(10, 4, 4, 300.0, 300.0, 3);
+
+        // Then
+        assertThat(ranks.startRank()).isEqualTo(5);
+        assertThat(ranks.endRank()).isEqualTo(5);
+        assertThat(ranks.rangeStart()).isEqualTo(2);
+        assertThat(ranks.rangeEnd()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("순위 계산 - 신규 사용자는 참여자 수를 시작 순위로 사용")
+    void newUser() {
+        // When
+        SubmissionRanks ranks = SubmissionRanks.of(10, 9, 0, null, 50.0, 3);
+
+        // Then
+        assertThat(ranks.startRank()).isEqualTo(10);
+        assertThat(ranks.endRank()).isEqualTo(10);
+        assertThat(ranks.rangeStart()).isEqualTo(7);
+        assertThat(ranks.rangeEnd()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("순위 계산 - 동점자와 같은 점수가 되면 동점자와 같은 순위")
+    void tieSharesRank() {
+        // Given: 새 점수 500점과 같은 점수의 사용자가 있어도 높은 인원은 1명
+
+        // When
+        SubmissionRanks ranks = SubmissionRanks.of(5, 1, 3, 400.0, 500.0, 3);
+
+        // Then
+        assertThat(ranks.endRank()).isEqualTo(2);
+        assertThat(ranks.startRank()).isEqualTo(3);
+    }
+}
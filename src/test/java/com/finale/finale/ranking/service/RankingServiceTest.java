@@ -5,18 +5,28 @@ import com.finale.finale.auth.domain.UserImageCategory;
 import com.finale.finale.auth.repository.UserRepository;
 import com.finale.finale.exception.CustomException;
 import com.finale.finale.ranking.dto.request.RankingResultRequest;
+import com.finale.finale.ranking.dto.response.MyRankingResponse;
+import com.finale.finale.ranking.dto.response.RankingPageResponse;
 import com.finale.finale.ranking.dto.response.RankingResponse;
 import com.finale.finale.ranking.dto.response.RankingResultResponse;
+import com.finale.finale.ranking.repository.RankingPage;
+import com.finale.finale.ranking.repository.RankingProfile;
+import com.finale.finale.ranking.repository.RankingProfileCodec;
 import com.finale.finale.ranking.repository.RankingRepository;
+import com.finale.finale.ranking.repository.RankingSubmission;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
 import org.redisson.client.protocol.ScoredEntry;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -27,9 +37,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +57,19 @@ class RankingServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private RankingTopCache rankingTopCache =
+            new RankingTopCache(mock(RedissonClient.class, RETURNS_DEEP_STUBS), Duration.ofSeconds(5));
+
     @InjectMocks
     private RankingService rankingService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rankingService, "topSize", 100);
+        ReflectionTestUtils.setField(rankingService, "maxPageSize", 50);
+    }
+
     @Test
     @DisplayName("랭킹 조회 성공 - 전체 랭킹 정보 반환")
     void getRankingsSuccess() {
@@ -60,12 +85,12 @@ class RankingServiceTest {
         ScoredEntry<String> entry3 = createScoredEntry("30", 8900.0);
         Collection<ScoredEntry<String>> topScores = List.of(entry1, entry2, entry3);
 
-        given(rankingRepository.getTopRankings(weekStart)).willReturn(topScores);
+        given(rankingRepository.getTopRankings(weekStart, 100)).willReturn(topScores);
         given(rankingRepository.getUserInfos(eq(weekStart), any()))
                 .willReturn(Map.of(
-                        "10", "user1:CAT",
-                        "20", "user2:DOG",
-                        "30", "user3:RABBIT"
+                        "10", new RankingProfile("user1", "CAT"),
+                        "20", new RankingProfile("user2", "DOG"),
+                        "30", new RankingProfile("user3", "RABBIT")
                 ));
 
         // When
@@ -91,7 +116,7 @@ class RankingServiceTest {
 
         given(rankingRepository.getMyRank(weekStart, userId)).willReturn(null);
         given(rankingRepository.getTotalParticipants(weekStart)).willReturn(50);
-        given(rankingRepository.getTopRankings(weekStart)).willReturn(List.of());
+        given(rankingRepository.getTopRankings(weekStart, 100)).willReturn(List.of());
 
         // When
         RankingResponse response = rankingService.getRankings(userId);
@@ -111,7 +136,7 @@ class RankingServiceTest {
 
         given(rankingRepository.getMyRank(weekStart, userId)).willReturn(null);
         given(rankingRepository.getTotalParticipants(weekStart)).willReturn(0);
-        given(rankingRepository.getTopRankings(weekStart)).willReturn(List.of());
+        given(rankingRepository.getTopRankings(weekStart, 100)).willReturn(List.of());
 
         // When
         RankingResponse response = rankingService.getRankings(userId);
@@ -131,7 +156,7 @@ class RankingServiceTest {
 
         given(rankingRepository.getMyRank(weekStart, userId)).willReturn(1);
         given(rankingRepository.getTotalParticipants(weekStart)).willReturn(10);
-        given(rankingRepository.getTopRankings(weekStart)).willReturn(List.of());
+        given(rankingRepository.getTopRankings(weekStart, 100)).willReturn(List.of());
 
         // When
         RankingResponse response = rankingService.getRankings(userId);
@@ -155,7 +180,7 @@ class RankingServiceTest {
         given(rankingRepository.getTotalParticipants(weekStart)).willReturn(1);
 
         ScoredEntry<String> entry = createScoredEntry("10", 1000.0);
-        given(rankingRepository.getTopRankings(weekStart)).willReturn(List.of(entry));
+        given(rankingRepository.getTopRankings(weekStart, 100)).willReturn(List.of(entry));
         given(rankingRepository.getUserInfos(eq(weekStart), any())).willReturn(Map.of());
 
         // When
@@ -193,9 +218,9 @@ class RankingServiceTest {
         given(rankingRepository.getTotalParticipants(weekStart)).willReturn(1);
 
         ScoredEntry<String> entry = createScoredEntry("10", 1000.0);
-        given(rankingRepository.getTopRankings(weekStart)).willReturn(List.of(entry));
+        given(rankingRepository.getTopRankings(weekStart, 100)).willReturn(List.of(entry));
         given(rankingRepository.getUserInfos(eq(weekStart), any()))
-                .willReturn(Map.of("10", "user1"));
+                .willReturn(Map.of("10", RankingProfileCodec.decodeLegacy("user1")));
 
         // When
         RankingResponse response = rankingService.getRankings(userId);
@@ -220,22 +245,18 @@ class RankingServiceTest {
         User user = createUser(userId, "testUser", UserImageCategory.sf);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
-        given(rankingRepository.getScore(weekStart, userId)).willReturn(4090.0);
-        given(rankingRepository.getMyRank(weekStart, userId))
-                .willReturn(152)  // before
-                .willReturn(138); // after
-        given(rankingRepository.getTotalParticipants(weekStart)).willReturn(200);
-
         ScoredEntry<String> entry1 = createScoredEntry("20", 4500.0);
         ScoredEntry<String> entry2 = createScoredEntry("1", 4210.0);
         ScoredEntry<String> entry3 = createScoredEntry("30", 4000.0);
-        given(rankingRepository.getRankRangeEntries(weekStart, 134, 154))
-                .willReturn(List.of(entry1, entry2, entry3));
-        given(rankingRepository.getUserInfos(eq(weekStart), any()))
-                .willReturn(Map.of(
-                        "20", "alpha:CAT",
-                        "1", "testUser:sf",
-                        "30", "beta:DOG"
+        given(rankingRepository.submitScore(weekStart, userId, gainedScore, "testUser", "sf", 3))
+                .willReturn(new RankingSubmission(
+                        4090, 4210, 152, 138, 135, 155,
+                        new RankingPage(135, 135, List.of(entry1, entry2, entry3)),
+                        Map.of(
+                                "20", new RankingProfile("alpha", "CAT"),
+                                "1", new RankingProfile("testUser", "sf"),
+                                "30", new RankingProfile("beta", "DOG")
+                        )
                 ));
 
         // When
@@ -249,8 +270,9 @@ class RankingServiceTest {
         assertThat(response.newScore()).isEqualTo(4210);
         assertThat(response.rangeStart()).isEqualTo(135);
         assertThat(response.rangeEnd()).isEqualTo(155);
-
-        verify(rankingRepository).addScore(weekStart, userId, gainedScore, "testUser", "sf");
+        assertThat(response.rankingRange())
+                .extracting(RankingResultResponse.RankingResultEntry::rank, RankingResultResponse.RankingResultEntry::nickname)
+                .containsExactly(tuple(135, "alpha"), tuple(136, "testUser"), tuple(137, "beta"));
     }
 
     @Test
@@ -264,14 +286,8 @@ class RankingServiceTest {
         User user = createUser(userId, "newUser", UserImageCategory.comedy);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
-        given(rankingRepository.getScore(weekStart, userId)).willReturn(null);
-        given(rankingRepository.getMyRank(weekStart, userId))
-                .willReturn(null)  // before (not in ranking)
-                .willReturn(50);   // after
-        given(rankingRepository.getTotalParticipants(weekStart)).willReturn(49);
-
-        given(rankingRepository.getRankRangeEntries(eq(weekStart), any(Integer.class), any(Integer.class)))
-                .willReturn(List.of());
+        given(rankingRepository.submitScore(weekStart, userId, gainedScore, "newUser", "comedy", 3))
+                .willReturn(new RankingSubmission(0, 100, 50, 50, 47, 50, new RankingPage(47, 47, List.of()), Map.of()));
 
         // When
         RankingResultResponse response = rankingService.processResult(userId, new RankingResultRequest(gainedScore));
@@ -282,8 +298,7 @@ class RankingServiceTest {
         assertThat(response.rankUp()).isEqualTo(0);
         assertThat(response.oldScore()).isEqualTo(0);
         assertThat(response.newScore()).isEqualTo(100);
-
-        verify(rankingRepository).addScore(weekStart, userId, gainedScore, "newUser", "comedy");
+        assertThat(response.rankingRange()).isEmpty();
     }
 
     @Test
@@ -309,24 +324,19 @@ class RankingServiceTest {
         User user = createUser(userId, "rangeUser", UserImageCategory.thriller);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
-        given(rankingRepository.getScore(weekStart, userId)).willReturn(1000.0);
-        given(rankingRepository.getMyRank(weekStart, userId))
-                .willReturn(10)
-                .willReturn(8);
-        given(rankingRepository.getTotalParticipants(weekStart)).willReturn(100);
-
         ScoredEntry<String> entry1 = createScoredEntry("5", 1200.0);
         ScoredEntry<String> entry2 = createScoredEntry("6", 1150.0);
         ScoredEntry<String> entry3 = createScoredEntry("1", 1050.0);
         ScoredEntry<String> entry4 = createScoredEntry("10", 950.0);
-        given(rankingRepository.getRankRangeEntries(weekStart, 4, 12))
-                .willReturn(List.of(entry1, entry2, entry3, entry4));
-        given(rankingRepository.getUserInfos(eq(weekStart), any()))
-                .willReturn(Map.of(
-                        "5", "user5:CAT",
-                        "6", "user6:DOG",
-                        "1", "rangeUser:thriller",
-                        "10", "user10:BIRD"
+        given(rankingRepository.submitScore(weekStart, userId, gainedScore, "rangeUser", "thriller", 3))
+                .willReturn(new RankingSubmission(
+                        1000, 1050, 10, 8, 5, 13,
+                        new RankingPage(5, 5, List.of(entry1, entry2, entry3, entry4)),
+                        Map.of(
+                                "5", new RankingProfile("user5", "CAT"),
+                                "6", new RankingProfile("user6", "DOG"),
+                                "1", new RankingProfile("rangeUser", "thriller")
+                        )
                 ));
 
         // When
@@ -338,6 +348,148 @@ class RankingServiceTest {
         assertThat(response.rankingRange()).hasSize(4);
         assertThat(response.rankingRange().get(0).rank()).isEqualTo(5);
         assertThat(response.rankingRange().get(0).nickname()).isEqualTo("user5");
+        assertThat(response.rankingRange().get(3).nickname()).isEqualTo("Unknown");
+    }
+
+    @Test
+    @DisplayName("내 주변 랭킹 조회 성공 - 내 순위를 중심으로 한 구간만 조회")
+    void getRankingsAroundMeSuccess() {
+        // Given
+        Long userId = 1L;
+        LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+
+        given(rankingRepository.getScore(weekStart, userId)).willReturn(280.0);
+        given(rankingRepository.getRank(weekStart, 280.0)).willReturn(500);
+        given(rankingRepository.getTotalParticipants(weekStart)).willReturn(10000);
+        given(rankingRepository.getRankRange(weekStart, 280.0, 498, 502))
+                .willReturn(new RankingPage(498, 498, List.of(
+                        createScoredEntry("7", 300.0),
+                        createScoredEntry("8", 290.0),
+                        createScoredEntry("1", 280.0),
+                        createScoredEntry("9", 270.0),
+                        createScoredEntry("11", 260.0)
+                )));
+        given(rankingRepository.getUserInfos(eq(weekStart), any()))
+                .willReturn(Map.of("1", new RankingProfile("me", "CAT")));
+
+        // When
+        RankingPageResponse response = rankingService.getRankingsAroundMe(userId, 0, 5);
+
+        // Then
+        assertThat(response.fromRank()).isEqualTo(498);
+        assertThat(response.toRank()).isEqualTo(502);
+        assertThat(response.hasPrevious()).isTrue();
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.rankings().get(2).rank()).isEqualTo(500);
+        assertThat(response.rankings().get(2).nickname()).isEqualTo("me");
+    }
+
+    @Test
+    @DisplayName("내 주변 랭킹 조회 성공 - 페이지를 넘기면 구간이 이동하고 범위를 벗어나지 않음")
+    void getRankingsAroundMePaging() {
+        // Given
+        Long userId = 1L;
+        LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+
+        given(rankingRepository.getScore(weekStart, userId)).willReturn(700.0);
+        given(rankingRepository.getRank(weekStart, 700.0)).willReturn(3);
+        given(rankingRepository.getTotalParticipants(weekStart)).willReturn(8);
+        given(rankingRepository.getRankRange(weekStart, 700.0, 1, 5)).willReturn(new RankingPage(1, 1, List.of()));
+
+        // When
+        RankingPageResponse response = rankingService.getRankingsAroundMe(userId, -1, 5);
+
+        // Then
+        assertThat(response.fromRank()).isEqualTo(1);
+        assertThat(response.toRank()).isEqualTo(5);
+        assertThat(response.hasPrevious()).isFalse();
+        assertThat(response.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("랭킹 조회 - 상위 랭킹은 스냅샷으로 재사용")
+    void getRankingsReusesTopSnapshot() {
+        // Given
+        Long userId = 1L;
+        LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+
+        given(rankingRepository.getTopRankings(weekStart, 100)).willReturn(List.of());
+
+        // When
+        rankingService.getRankings(userId);
+        rankingService.getRankings(userId);
+
+        // Then
+        verify(rankingRepository, times(1)).getTopRankings(weekStart, 100);
+    }
+
+    @Test
+    @DisplayName("랭킹 조회 - 상위권 사용자의 순위는 스냅샷에서 조회")
+    void getRankingsFindsTopUserInSnapshot() {
+        // Given
+        Long userId = 20L;
+        LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+
+        given(rankingRepository.getTotalParticipants(weekStart)).willReturn(100);
+        given(rankingRepository.getTopRankings(weekStart, 100))
+                .willReturn(List.of(createScoredEntry("10", 9820.0), createScoredEntry("20", 9340.0)));
+        given(rankingRepository.getUserInfos(eq(weekStart), any()))
+                .willReturn(Map.of("10", new RankingProfile("user1", "CAT"), "20", new RankingProfile("user2", "DOG")));
+
+        // When
+        RankingResponse rankings = rankingService.getRankings(userId);
+        MyRankingResponse myRanking = rankingService.getMyRanking(userId);
+
+        // Then
+        assertThat(rankings.myRanking()).isEqualTo(2);
+        assertThat(myRanking.myRanking()).isEqualTo(2);
+        assertThat(myRanking.score()).isEqualTo(9340);
+        verify(rankingRepository, never()).getMyRank(any(), any());
+        verify(rankingRepository, never()).getScore(any(), any());
+    }
+
+    @Test
+    @DisplayName("랭킹 결과 처리 - 상위권에 들면 스냅샷을 무효화")
+    void processResultInvalidatesSnapshotWhenEnteringTop() {
+        // Given
+        Long userId = 1L;
+        LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+
+        User user = createUser(userId, "topUser", UserImageCategory.sf);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(rankingRepository.submitScore(weekStart, userId, 500, "topUser", "sf", 3))
+                .willReturn(new RankingSubmission(100, 600, 150, 90, 87, 153, new RankingPage(87, 87, List.of()), Map.of()));
+
+        // When
+        rankingService.processResult(userId, new RankingResultRequest(500));
+
+        // Then
+        verify(rankingTopCache).invalidate(weekStart);
+    }
+
+    @Test
+    @DisplayName("랭킹 조회 - 동점자는 같은 순위를 공유하고 내 순위와 일치")
+    void getRankingsSharesRankOnTies() {
+        // Given
+        Long userId = 30L;
+        LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+
+        given(rankingRepository.getTotalParticipants(weekStart)).willReturn(3);
+        given(rankingRepository.getTopRankings(weekStart, 100)).willReturn(List.of(
+                createScoredEntry("10", 9820.0),
+                createScoredEntry("30", 9340.0),
+                createScoredEntry("20", 9340.0)
+        ));
+        given(rankingRepository.getUserInfos(eq(weekStart), any())).willReturn(Map.of());
+
+        // When
+        RankingResponse rankings = rankingService.getRankings(userId);
+
+        // Then
+        assertThat(rankings.rankings())
+                .extracting(RankingResponse.RankingEntry::userId, RankingResponse.RankingEntry::rank)
+                .containsExactly(tuple(10L, 1), tuple(30L, 2), tuple(20L, 2));
+        assertThat(rankings.myRanking()).isEqualTo(2);
     }
 
     private User createUser(Long id, String nickname, UserImageCategory imageCategory) {